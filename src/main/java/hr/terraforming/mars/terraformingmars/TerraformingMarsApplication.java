@@ -2,6 +2,10 @@ package hr.terraforming.mars.terraformingmars;
 
 import hr.terraforming.mars.terraformingmars.config.ResourceConfig;
 import hr.terraforming.mars.terraformingmars.factory.CardFactory;
+import hr.terraforming.mars.terraformingmars.manager.GameSessionManager;
+import hr.terraforming.mars.terraformingmars.service.GameStateService;
+import hr.terraforming.mars.terraformingmars.thread.AppExecutors;
+import hr.terraforming.mars.terraformingmars.util.GameMoveUtils;
 import hr.terraforming.mars.terraformingmars.util.ScreenUtils;
 import hr.terraforming.mars.terraformingmars.util.XmlUtils;
 import hr.terraforming.mars.terraformingmars.view.ScreenNavigator;
@@ -43,6 +47,15 @@ public class TerraformingMarsApplication extends Application {
 
         stage.show();
     }
+
+    @Override
+    public void stop() {
+        GameSessionManager.resetForNewGame();
+        AppExecutors.shutdown();
+        GameMoveUtils.closeMoveJournal();
+        XmlUtils.closeGameMoves();
+        GameStateService.closeSaveCatalog();
+    }
     @SuppressWarnings("unused")
     public static void main(String[] args) {
         launch();
@@ -4,6 +4,7 @@ import hr.terraforming.mars.terraformingmars.enums.PlayerType;
 import hr.terraforming.mars.terraformingmars.factory.CardFactory;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.NetworkBroadcaster;
+import hr.terraforming.mars.terraformingmars.util.GameLoopUtils;
 import hr.terraforming.mars.terraformingmars.view.CardViewBuilder;
 import javafx.animation.PauseTransition;
 import javafx.beans.property.IntegerProperty;
@@ -142,7 +143,7 @@ public class ChooseCardsController {
 
         if (playerType == PlayerType.HOST) {
             if (onConfirm != null) {
-                onConfirm.accept(boughtCards);
+                GameLoopUtils.runInGameLoop(() -> onConfirm.accept(boughtCards));
             }
 
             NetworkBroadcaster broadcaster = config.getBroadcaster();
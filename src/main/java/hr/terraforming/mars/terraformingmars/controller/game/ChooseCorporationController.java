@@ -4,6 +4,7 @@ import hr.terraforming.mars.terraformingmars.enums.PlayerType;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.GameClientThread;
 import hr.terraforming.mars.terraformingmars.network.NetworkBroadcaster;
+import hr.terraforming.mars.terraformingmars.util.GameLoopUtils;
 import hr.terraforming.mars.terraformingmars.view.CorporationViewBuilder;
 import hr.terraforming.mars.terraformingmars.view.ScreenNavigator;
 import javafx.fxml.FXML;
@@ -105,7 +106,8 @@ public class ChooseCorporationController {
             return;
         }
 
-        gameManager.assignCorporationAndAdvance(selectedCorporation);
+        Corporation chosenCorporation = selectedCorporation;
+        GameLoopUtils.runInGameLoop(() -> gameManager.assignCorporationAndAdvance(chosenCorporation));
         PlayerType playerType = ApplicationConfiguration.getInstance().getPlayerType();
 
         switch (playerType) {
@@ -1,5 +1,6 @@
 package hr.terraforming.mars.terraformingmars.controller.game;
 
+import hr.terraforming.mars.terraformingmars.controller.setup.SaveBrowserController;
 import hr.terraforming.mars.terraformingmars.coordinator.*;
 import hr.terraforming.mars.terraformingmars.replay.ReplayManager;
 import hr.terraforming.mars.terraformingmars.service.GameStateService;
@@ -9,6 +10,7 @@ import hr.terraforming.mars.terraformingmars.view.ScreenNavigator;
 import hr.terraforming.mars.terraformingmars.manager.*;
 import hr.terraforming.mars.terraformingmars.model.*;
 import javafx.animation.*;
+import javafx.application.Platform;
 import javafx.fxml.*;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
@@ -17,9 +19,13 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.function.Consumer;
+
 @Slf4j
 public class GameScreenController {
 
+    private static final String SAVE_MENU_TEXT = "Save";
+
     @Getter
     @FXML private AnchorPane hexBoardPane;
     @Getter
@@ -44,6 +50,7 @@ public class GameScreenController {
     @FXML private Button cancelPlacementButton;
     @FXML public BorderPane playerInterface;
     @FXML private Label lastMoveLabel;
+    @FXML private MenuItem saveMenuItem;
     @Getter
     @FXML private VBox chatBoxContainer;
     @Getter
@@ -61,10 +68,10 @@ public class GameScreenController {
     @Getter private NetworkCoordinator networkCoordinator;
     @Getter private GameSetupCoordinator setupCoordinator;
     private GameScreenCoordinator gameScreenCoordinator;
-    @Setter private Player viewedPlayer = null;
+    @Setter private volatile Player viewedPlayer = null;
     private final GameStateService gameStateService = new GameStateService();
     @Setter @Getter private ReplayManager replayManager;
-    @Getter private Timeline moveHistoryTimeline;
+    private Runnable moveHistorySubscription;
 
     @FXML
     private void initialize() {
@@ -98,27 +105,35 @@ public class GameScreenController {
     }
 
     public void startMoveHistory() {
-        if (moveHistoryTimeline == null) {
-            moveHistoryTimeline = GameMoveUtils.createLastMoveTimeline(lastMoveLabel);
-            moveHistoryTimeline.play();
+        if (moveHistorySubscription == null) {
+            moveHistorySubscription = GameMoveUtils.subscribeToLastMove(lastMoveLabel);
+        }
+    }
+
+    public void stopMoveHistory() {
+        if (moveHistorySubscription != null) {
+            moveHistorySubscription.run();
+            moveHistorySubscription = null;
         }
     }
 
     public void refreshGameScreen() {
-        gameScreenCoordinator.refreshGameScreen(viewedPlayer, gameManager, placementManager,
-                currentPlayerBoardController, actionManager, gameScreenManager);
+        GameLoopUtils.runOnFxThread(() -> gameScreenCoordinator.refreshGameScreen(viewedPlayer, gameManager, placementManager,
+                currentPlayerBoardController, actionManager, gameScreenManager));
     }
 
     public void updatePlayerHighlightForCurrentPlayer() {
-        if (gameManager != null && gameManager.getCurrentPlayer() != null) {
-            gameScreenCoordinator.updatePlayerHighlight(gameManager.getCurrentPlayer(), playerListBar);
-        }
+        GameLoopUtils.runOnFxThread(() -> {
+            if (gameManager != null && gameManager.getCurrentPlayer() != null) {
+                gameScreenCoordinator.updatePlayerHighlight(gameManager.getCurrentPlayer(), playerListBar);
+            }
+        });
     }
 
     public void setGameControlsEnabled(boolean isEnabled) {
-        gameScreenCoordinator.setGameControlsEnabled(isEnabled, currentPlayerBoardController,
+        GameLoopUtils.runOnFxThread(() -> gameScreenCoordinator.setGameControlsEnabled(isEnabled, currentPlayerBoardController,
                 passTurnButton, convertHeatButton, convertPlantsButton,
-                standardProjectsBox, milestonesBox);
+                standardProjectsBox, milestonesBox));
     }
 
     public void showPlayerBoard(Player player) {
@@ -136,11 +151,13 @@ public class GameScreenController {
 
     public void setCancelButtonVisible(boolean visible) {
         if (cancelPlacementButton != null && passTurnButton != null) {
-            cancelPlacementButton.setVisible(visible);
-            cancelPlacementButton.setManaged(visible);
+            GameLoopUtils.runOnFxThread(() -> {
+                cancelPlacementButton.setVisible(visible);
+                cancelPlacementButton.setManaged(visible);
 
-            passTurnButton.setVisible(!visible);
-            passTurnButton.setManaged(!visible);
+                passTurnButton.setVisible(!visible);
+                passTurnButton.setManaged(!visible);
+            });
         }
     }
 
@@ -163,19 +180,40 @@ public class GameScreenController {
     }
 
     public void saveGame() {
-        gameStateService.saveGame(gameManager, gameBoard);
+        Consumer<SaveEvent> onEvent = event -> Platform.runLater(() -> onSaveEvent(event));
+        GameLoopUtils.runInGameLoop(() -> gameStateService.saveGame(gameManager, gameBoard, onEvent));
     }
 
-    public void loadGame() {
-        GameState loadedState = gameStateService.loadGame();
-        if (loadedState != null) {
-            setupCoordinator.setupLoadedGame(loadedState);
-            viewedPlayer = gameManager.getCurrentPlayer();
-            refreshGameScreen();
-            DialogUtils.showDialog(Alert.AlertType.INFORMATION, "Load Game Successful!", "The game has been successfully loaded!");
+    private void onSaveEvent(SaveEvent event) {
+        switch (event.stage()) {
+            case CAPTURED, WRITING -> saveMenuItem.setText(String.format("Saving... %d%%", Math.round(event.progress() * 100)));
+            case COMPLETED -> {
+                saveMenuItem.setText(SAVE_MENU_TEXT);
+                DialogUtils.showNotification(Alert.AlertType.INFORMATION, "Save Game Successful!", "The game has been successfully saved!");
+            }
+            case FAILED -> {
+                saveMenuItem.setText(SAVE_MENU_TEXT);
+                DialogUtils.showNotification(Alert.AlertType.ERROR, "Save Game Failed!", "The game could not be saved: " + event.error().getMessage());
+            }
         }
     }
 
+    public void loadGame() {
+        ScreenUtils.showAsModal(
+                getSceneWindow(),
+                "SaveBrowser.fxml",
+                "Load Game",
+                (SaveBrowserController controller) -> controller.setup(this::showLoadedGame)
+        );
+    }
+
+    private void showLoadedGame(GameState loadedState) {
+        setupCoordinator.setupLoadedGame(loadedState);
+        viewedPlayer = gameManager.getCurrentPlayer();
+        refreshGameScreen();
+        DialogUtils.showDialog(Alert.AlertType.INFORMATION, "Load Game Successful!", "The game has been successfully loaded!");
+    }
+
     public void generateHtmlDocumentation() {
         DocumentationUtils.generateDocumentation();
     }
@@ -203,12 +241,14 @@ public class GameScreenController {
     @FXML
     private void debugTriggerFinalGeneration() {
         if (gameBoard != null) {
-            gameBoard.setTemperature(GameBoard.MAX_TEMPERATURE);
-            gameBoard.setOxygenLevel(GameBoard.MAX_OXYGEN);
-            gameBoard.setOceansPlaced(GameBoard.MAX_OCEANS);
-            log.info("All parameters set to MAXIMUM - Final Generation triggered!");
-            refreshGameScreen();
-            broadcastIfHost();
+            GameLoopUtils.runInGameLoop(() -> {
+                gameBoard.setTemperature(GameBoard.MAX_TEMPERATURE);
+                gameBoard.setOxygenLevel(GameBoard.MAX_OXYGEN);
+                gameBoard.setOceansPlaced(GameBoard.MAX_OCEANS);
+                log.info("All parameters set to MAXIMUM - Final Generation triggered!");
+                refreshGameScreen();
+                broadcastIfHost();
+            });
         }
     }
 }
\ No newline at end of file
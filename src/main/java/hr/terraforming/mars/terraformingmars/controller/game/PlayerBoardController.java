@@ -7,13 +7,17 @@ import hr.terraforming.mars.terraformingmars.manager.ActionManager;
 import hr.terraforming.mars.terraformingmars.model.ApplicationConfiguration;
 import hr.terraforming.mars.terraformingmars.model.Card;
 import hr.terraforming.mars.terraformingmars.model.Player;
+import hr.terraforming.mars.terraformingmars.util.GameLoopUtils;
 import hr.terraforming.mars.terraformingmars.view.ScreenResizer;
 import hr.terraforming.mars.terraformingmars.view.CardViewBuilder;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.*;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 
@@ -42,6 +46,7 @@ public class PlayerBoardController {
     private Player player;
     private ActionManager actionManager;
     private boolean isShowingHand = true;
+    private final List<Runnable> playerBindings = new ArrayList<>();
 
     @FXML
     public void initialize() {
@@ -74,27 +79,41 @@ public class PlayerBoardController {
         if (isMyPlayer) {
             updateCardsDisplay();
         } else {
-            cardsDisplayArea.getChildren().clear();
+            Label handSizeLabel = new Label("Cards in hand: " + player.getHandSize());
+            handSizeLabel.getStyleClass().add("tag-text-label");
+            cardsDisplayArea.getChildren().setAll(handSizeLabel);
         }
     }
 
     private void updatePlayerInfo() {
         corporationLabel.setText("Corporation: " + (player.getCorporation() != null ? player.getCorporation().name() : "N/A"));
 
-        trLabel.textProperty().bind(player.trProperty().asString("TR: %d"));
-        mcLabel.textProperty().bind(player.mcProperty().asString());
-        steelLabel.textProperty().bind(player.resourceProperty(ResourceType.STEEL).asString());
-        titaniumLabel.textProperty().bind(player.resourceProperty(ResourceType.TITANIUM).asString());
-        plantsLabel.textProperty().bind(player.resourceProperty(ResourceType.PLANTS).asString());
-        energyLabel.textProperty().bind(player.resourceProperty(ResourceType.ENERGY).asString());
-        heatLabel.textProperty().bind(player.resourceProperty(ResourceType.HEAT).asString());
-
-        mcProductionLabel.textProperty().bind(player.productionProperty(ResourceType.MEGA_CREDITS).asString());
-        steelProductionLabel.textProperty().bind(player.productionProperty(ResourceType.STEEL).asString());
-        titaniumProductionLabel.textProperty().bind(player.productionProperty(ResourceType.TITANIUM).asString());
-        plantsProductionLabel.textProperty().bind(player.productionProperty(ResourceType.PLANTS).asString());
-        energyProductionLabel.textProperty().bind(player.productionProperty(ResourceType.ENERGY).asString());
-        heatProductionLabel.textProperty().bind(player.productionProperty(ResourceType.HEAT).asString());
+        playerBindings.forEach(Runnable::run);
+        playerBindings.clear();
+
+        bindText(trLabel, player.trProperty(), "TR: %d");
+        bindText(mcLabel, player.mcProperty(), "%d");
+        bindText(steelLabel, player.resourceProperty(ResourceType.STEEL), "%d");
+        bindText(titaniumLabel, player.resourceProperty(ResourceType.TITANIUM), "%d");
+        bindText(plantsLabel, player.resourceProperty(ResourceType.PLANTS), "%d");
+        bindText(energyLabel, player.resourceProperty(ResourceType.ENERGY), "%d");
+        bindText(heatLabel, player.resourceProperty(ResourceType.HEAT), "%d");
+
+        bindText(mcProductionLabel, player.productionProperty(ResourceType.MEGA_CREDITS), "%d");
+        bindText(steelProductionLabel, player.productionProperty(ResourceType.STEEL), "%d");
+        bindText(titaniumProductionLabel, player.productionProperty(ResourceType.TITANIUM), "%d");
+        bindText(plantsProductionLabel, player.productionProperty(ResourceType.PLANTS), "%d");
+        bindText(energyProductionLabel, player.productionProperty(ResourceType.ENERGY), "%d");
+        bindText(heatProductionLabel, player.productionProperty(ResourceType.HEAT), "%d");
+    }
+
+    private void bindText(Label label, IntegerProperty property, String format) {
+        ChangeListener<Number> listener = (_, _, value) ->
+                GameLoopUtils.runOnFxThread(() -> label.setText(format.formatted(value.intValue())));
+
+        label.setText(format.formatted(property.get()));
+        property.addListener(listener);
+        playerBindings.add(() -> property.removeListener(listener));
     }
 
     @FXML
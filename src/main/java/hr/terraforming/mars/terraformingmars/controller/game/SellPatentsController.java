@@ -99,12 +99,6 @@ public class SellPatentsController {
     @FXML
     private void confirmSale() {
         if (!selectedCards.isEmpty()) {
-            int cardsSoldCount = selectedCards.size();
-
-            player.getHand().removeAll(selectedCards);
-
-            player.addMC(cardsSoldCount);
-
             log.info("{} sold {} patent(s) for {} MC.", player.getName(), selectedCards.size(), selectedCards.size());
 
             if (onSaleComplete != null) {
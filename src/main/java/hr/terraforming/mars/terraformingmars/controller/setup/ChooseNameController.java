@@ -7,6 +7,7 @@ import hr.terraforming.mars.terraformingmars.model.Player;
 import hr.terraforming.mars.terraformingmars.network.GameServerThread;
 import hr.terraforming.mars.terraformingmars.network.HostGameCoordinator;
 import hr.terraforming.mars.terraformingmars.network.NetworkBroadcaster;
+import hr.terraforming.mars.terraformingmars.thread.AppExecutors;
 import hr.terraforming.mars.terraformingmars.view.ScreenNavigator;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
@@ -57,7 +58,7 @@ public class ChooseNameController {
     private void startServer(GameManager gameManager, GameBoard gameBoard) {
         int playerCount = ApplicationConfiguration.getInstance().getPlayerCount();
 
-        new Thread(() -> {
+        AppExecutors.network().execute(() -> {
             try {
                 GameServerThread gameServer = new GameServerThread(
                         gameManager,
@@ -66,10 +67,10 @@ public class ChooseNameController {
                         playerCount
                 );
 
-                NetworkBroadcaster broadcaster = new NetworkBroadcaster(gameManager, gameBoard);
+                NetworkBroadcaster broadcaster = new NetworkBroadcaster(gameServer, gameManager, gameBoard);
                 ApplicationConfiguration.getInstance().setBroadcaster(broadcaster);
 
-                HostGameCoordinator hostCoordinator = new HostGameCoordinator();
+                HostGameCoordinator hostCoordinator = new HostGameCoordinator(gameServer);
                 gameServer.addLocalListener(hostCoordinator);
 
                 ApplicationConfiguration.getInstance().setGameServer(gameServer);
@@ -79,7 +80,7 @@ public class ChooseNameController {
             } catch (Exception e) {
                 log.error("Failed to start server", e);
             }
-        }).start();
+        });
 
         log.info("Server thread started, listening for {} clients", playerCount - 1);
     }
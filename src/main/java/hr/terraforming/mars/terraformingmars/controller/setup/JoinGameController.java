@@ -5,6 +5,7 @@ import hr.terraforming.mars.terraformingmars.jndi.ConfigurationReader;
 import hr.terraforming.mars.terraformingmars.model.ApplicationConfiguration;
 import hr.terraforming.mars.terraformingmars.network.ClientGameCoordinator;
 import hr.terraforming.mars.terraformingmars.network.GameClientThread;
+import hr.terraforming.mars.terraformingmars.thread.AppExecutors;
 import hr.terraforming.mars.terraformingmars.view.ScreenNavigator;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -75,7 +76,7 @@ public class JoinGameController {
     }
 
     private void connectToServer(String serverIp, int port) {
-        new Thread(() -> {
+        AppExecutors.network().execute(() -> {
             try {
                 GameClientThread client = new GameClientThread(serverIp, port);
                 ApplicationConfiguration.getInstance().setGameClient(client);
@@ -83,7 +84,7 @@ public class JoinGameController {
                 ClientGameCoordinator coordinator = new ClientGameCoordinator(client);
                 client.addGameStateListener(coordinator);
 
-                new Thread(client).start();
+                AppExecutors.network().execute(client);
 
                 Platform.runLater(() -> {
                     showStatus("Connected! Waiting for game to start...", false);
@@ -96,7 +97,7 @@ public class JoinGameController {
                     showStatus("Connection failed: " + e.getMessage(), true);
                 });
             }
-        }).start();
+        });
     }
 
     private void disableInputs() {
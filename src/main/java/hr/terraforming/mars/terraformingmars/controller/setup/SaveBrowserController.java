@@ -0,0 +1,124 @@
+package hr.terraforming.mars.terraformingmars.controller.setup;
+
+import hr.terraforming.mars.terraformingmars.model.GameState;
+import hr.terraforming.mars.terraformingmars.save.SaveHeader;
+import hr.terraforming.mars.terraformingmars.service.GameStateService;
+import hr.terraforming.mars.terraformingmars.util.DialogUtils;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.fxml.FXML;
+import javafx.scene.control.*;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+public class SaveBrowserController {
+
+    private static final DateTimeFormatter SAVED_AT_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy. HH:mm:ss");
+
+    @FXML private VBox saveBrowserScreen;
+    @FXML private Label infoLabel;
+    @FXML private TableView<SaveHeader> savesTable;
+    @FXML private TableColumn<SaveHeader, String> savedAtColumn;
+    @FXML private TableColumn<SaveHeader, String> generationColumn;
+    @FXML private TableColumn<SaveHeader, String> phaseColumn;
+    @FXML private TableColumn<SaveHeader, String> playersColumn;
+    @FXML private TableColumn<SaveHeader, String> parametersColumn;
+    @FXML private TableColumn<SaveHeader, String> sizeColumn;
+    @FXML private Button loadButton;
+    @FXML private Button deleteButton;
+
+    private final GameStateService gameStateService = new GameStateService();
+    private Consumer<GameState> onGameLoaded;
+
+    @FXML
+    private void initialize() {
+        bindColumn(savedAtColumn, header -> header.savedAt().format(SAVED_AT_FORMATTER));
+        bindColumn(generationColumn, header -> String.valueOf(header.generation()));
+        bindColumn(phaseColumn, header -> header.phase() != null ? header.phase().name() : "");
+        bindColumn(playersColumn, SaveBrowserController::describePlayers);
+        bindColumn(parametersColumn, header -> String.format("%d°C, %d%% O2, %d oceans",
+                header.temperature(), header.oxygen(), header.oceans()));
+        bindColumn(sizeColumn, header -> String.format("%.1f KB", header.size() / 1024.0));
+
+        loadButton.disableProperty().bind(savesTable.getSelectionModel().selectedItemProperty().isNull());
+        deleteButton.disableProperty().bind(savesTable.getSelectionModel().selectedItemProperty().isNull());
+        savesTable.setOnMouseClicked(event -> {
+            if (event.getClickCount() == 2) {
+                loadSelected();
+            }
+        });
+    }
+
+    public void setup(Consumer<GameState> onGameLoaded) {
+        this.onGameLoaded = onGameLoaded;
+        refreshSaves();
+    }
+
+    private void refreshSaves() {
+        List<SaveHeader> saves = gameStateService.listSavedGames();
+        savesTable.getItems().setAll(saves);
+        infoLabel.setText(saves.isEmpty() ? "No saved games found." : saves.size() + " saved game(s)");
+    }
+
+    @FXML
+    private void loadSelected() {
+        SaveHeader selected = savesTable.getSelectionModel().getSelectedItem();
+        if (selected == null) {
+            return;
+        }
+
+        GameState loadedState = gameStateService.loadGame(selected.slot());
+        if (loadedState == null) {
+            DialogUtils.showDialog(Alert.AlertType.ERROR, "Load Game Failed!",
+                    "The selected save could not be loaded.");
+            return;
+        }
+
+        closeWindow();
+        if (onGameLoaded != null) {
+            onGameLoaded.accept(loadedState);
+        }
+    }
+
+    @FXML
+    private void deleteSelected() {
+        SaveHeader selected = savesTable.getSelectionModel().getSelectedItem();
+        if (selected != null) {
+            gameStateService.deleteSavedGame(selected.slot());
+            refreshSaves();
+        }
+    }
+
+    @FXML
+    private void cancel() {
+        closeWindow();
+    }
+
+    private void closeWindow() {
+        Stage stage = (Stage) saveBrowserScreen.getScene().getWindow();
+
+        if (stage != null) {
+            stage.close();
+        }
+    }
+
+    private static void bindColumn(TableColumn<SaveHeader, String> column, Function<SaveHeader, String> value) {
+        column.setCellValueFactory(cell -> new ReadOnlyStringWrapper(value.apply(cell.getValue())));
+    }
+
+    private static String describePlayers(SaveHeader header) {
+        List<String> players = new ArrayList<>();
+        for (int i = 0; i < header.players().size(); i++) {
+            String corporation = i < header.corporations().size() ? header.corporations().get(i) : "N/A";
+            players.add(header.players().get(i) + " (" + corporation + ")");
+        }
+        return String.join(", ", players);
+    }
+}
@@ -26,28 +26,45 @@ public class StartMenuController {
 
     @FXML
     private void loadSavedGame() {
-        log.info("Loading saved game");
+        log.info("Opening saved games");
 
-        GameState loadedState = gameStateService.loadGame();
-
-        if (loadedState != null) {
-            var result = ScreenUtils.loadFxml("GameScreen.fxml");
-
-            GameScreenController controller = (GameScreenController) result.controller();
-            Scene mainGameScene = ScreenUtils.createScene(result.root());
+        ScreenUtils.showAsModal(
+                ScreenNavigator.getMainStage(),
+                "SaveBrowser.fxml",
+                "Load Game",
+                (SaveBrowserController controller) -> controller.setup(loadedState -> {
+                    showLoadedGame(loadedState);
+                    Platform.runLater(() ->
+                            DialogUtils.showDialog(Alert.AlertType.INFORMATION, "Load Game Successful!",
+                                    "The game has been successfully loaded!")
+                    );
+                })
+        );
+    }
 
-            controller.getSetupCoordinator().setupLoadedGame(loadedState);
+    @FXML
+    private void resumeLastGame() {
+        log.info("Resuming last game from checkpoint");
 
-            ScreenNavigator.getMainStage().setScene(mainGameScene);
-            ScreenNavigator.getMainStage().setTitle("Terraforming Mars - Loaded Game");
+        GameState recoveredState = gameStateService.recoverLastGame();
 
-            Platform.runLater(() ->
-                    DialogUtils.showDialog(Alert.AlertType.INFORMATION, "Load Game Successful!",
-                            "The game has been successfully loaded!")
-            );
+        if (recoveredState != null) {
+            showLoadedGame(recoveredState);
         } else {
-            DialogUtils.showDialog(Alert.AlertType.ERROR, "Load Game Failed!",
-                    "Failed to load game. No saved game found.");
+            DialogUtils.showDialog(Alert.AlertType.ERROR, "Resume Game Failed!",
+                    "No recent game found to resume.");
         }
     }
+
+    private void showLoadedGame(GameState loadedState) {
+        var result = ScreenUtils.loadFxml("GameScreen.fxml");
+
+        GameScreenController controller = (GameScreenController) result.controller();
+        Scene mainGameScene = ScreenUtils.createScene(result.root());
+
+        controller.getSetupCoordinator().setupLoadedGame(loadedState);
+
+        ScreenNavigator.getMainStage().setScene(mainGameScene);
+        ScreenNavigator.getMainStage().setTitle("Terraforming Mars - Loaded Game");
+    }
 }
@@ -6,6 +6,7 @@ import hr.terraforming.mars.terraformingmars.manager.*;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.GameServerThread;
 import hr.terraforming.mars.terraformingmars.replay.ReplayManager;
+import hr.terraforming.mars.terraformingmars.service.CheckpointService;
 import hr.terraforming.mars.terraformingmars.view.ScreenResizer;
 import hr.terraforming.mars.terraformingmars.view.GameScreenInitializer;
 import hr.terraforming.mars.terraformingmars.model.ApplicationConfiguration;
@@ -48,6 +49,8 @@ public record GameSetupCoordinator(GameScreenController controller) {
 
         setupInitialPlayer();
 
+        CheckpointService.checkpoint(controller.getGameManager(), controller.getGameBoard());
+
         finalizeUISetup();
     }
 
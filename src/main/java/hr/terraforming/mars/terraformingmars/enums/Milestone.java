@@ -20,7 +20,7 @@ public enum Milestone {
             player -> player.countTags(TagType.BUILDING) >= 8),
 
     PLANNER("Planner", "Have at least 16 cards in your hand.",
-            player -> player.getHand().size() >= 16);
+            player -> player.getHandSize() >= 16);
 
     @Getter
     private final String name;
@@ -5,7 +5,16 @@ import lombok.Getter;
 @Getter
 public enum ConfigurationKey {
 
-    RMI_PORT("rmi.port"), SERVER_PORT("server.port"), HOSTNAME("hostname");
+    RMI_PORT("rmi.port"), SERVER_PORT("server.port"), HOSTNAME("hostname"), SPECTATOR_PORT("spectator.port"),
+    OUTBOUND_MAX_FRAMES("network.outbound.maxFrames"), OUTBOUND_MAX_BYTES("network.outbound.maxBytes"),
+    OUTBOUND_MAX_STATE_LAG("network.outbound.maxStateLag"), OUTBOUND_LAG_POLICY("network.outbound.lagPolicy"),
+    NETWORK_COMPRESSION("network.compression"),
+    HEARTBEAT_INTERVAL("network.heartbeat.interval"), HEARTBEAT_IDLE_TIMEOUT("network.heartbeat.idleTimeout"),
+    HANDSHAKE_TIMEOUT("network.handshake.timeout"),
+    JOURNAL_FSYNC("journal.fsync"), JOURNAL_FSYNC_BATCH("journal.fsync.batch"),
+    JOURNAL_FOLLOW("journal.follow"),
+    XML_FLUSH_BATCH("xml.flush.batch"),
+    CHECKPOINT_INTERVAL("checkpoint.interval");
 
     private final String key;
 
@@ -31,4 +31,22 @@ public class ConfigurationReader {
     public static Integer getIntegerValue(ConfigurationKey key) {
         return Integer.valueOf(getStringValue(key));
     }
+
+    public static int getIntegerValue(ConfigurationKey key, int defaultValue) {
+        String value = getStringValue(key, null);
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+        } catch (NumberFormatException _) {
+            return defaultValue;
+        }
+    }
+
+    public static String getStringValue(ConfigurationKey key, String defaultValue) {
+        try {
+            String value = getStringValue(key);
+            return value != null ? value : defaultValue;
+        } catch (ConfigurationException _) {
+            return defaultValue;
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package hr.terraforming.mars.terraformingmars.journal;
+
+import hr.terraforming.mars.terraformingmars.enums.ActionType;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationKey;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationReader;
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Slf4j
+public enum FsyncPolicy {
+    MOVE,
+    BATCH,
+    PHASE;
+
+    public static final int DEFAULT_BATCH_SIZE = 16;
+
+    private static final Set<ActionType> PHASE_BOUNDARIES = EnumSet.of(
+            ActionType.INITIAL_SETUP,
+            ActionType.RESEARCH_COMPLETE,
+            ActionType.OPEN_PRODUCTION_PHASE_MODAL,
+            ActionType.FINISH_PRODUCTION_PHASE,
+            ActionType.OPEN_FINAL_GREENERY_MODAL,
+            ActionType.FINISH_FINAL_GREENERY
+    );
+
+    boolean requiresSync(GameMove move, int unsyncedMoves, int batchSize) {
+        return switch (this) {
+            case MOVE -> true;
+            case BATCH -> unsyncedMoves >= batchSize;
+            case PHASE -> PHASE_BOUNDARIES.contains(move.actionType());
+        };
+    }
+
+    public static FsyncPolicy fromConfiguration() {
+        String configuredPolicy = ConfigurationReader.getStringValue(ConfigurationKey.JOURNAL_FSYNC, null);
+
+        if (configuredPolicy != null) {
+            try {
+                return FsyncPolicy.valueOf(configuredPolicy.trim().toUpperCase());
+            } catch (IllegalArgumentException _) {
+                log.warn("Unknown journal fsync policy '{}', using {}", configuredPolicy, BATCH);
+            }
+        }
+        return BATCH;
+    }
+
+    public static int batchSizeFromConfiguration() {
+        return Math.max(1, ConfigurationReader.getIntegerValue(ConfigurationKey.JOURNAL_FSYNC_BATCH, DEFAULT_BATCH_SIZE));
+    }
+}
@@ -0,0 +1,165 @@
+package hr.terraforming.mars.terraformingmars.journal;
+
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import hr.terraforming.mars.terraformingmars.thread.AppExecutors;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+@Slf4j
+public class JournalTailFollower implements Closeable {
+
+    private final Path journalPath;
+    private final Consumer<GameMove> onMove;
+    private final WatchService watchService;
+    private FileChannel channel;
+    private long position;
+    private Future<?> watchLoop;
+
+    private JournalTailFollower(Path journalPath, Consumer<GameMove> onMove, WatchService watchService) {
+        this.journalPath = journalPath;
+        this.onMove = onMove;
+        this.watchService = watchService;
+    }
+
+    public static JournalTailFollower start(Path journalPath, Consumer<GameMove> onMove) throws IOException {
+        Path absolutePath = journalPath.toAbsolutePath();
+        Path directory = absolutePath.getParent();
+        Files.createDirectories(directory);
+
+        WatchService watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        JournalTailFollower follower = new JournalTailFollower(absolutePath, onMove, watchService);
+        follower.skipToEnd();
+        follower.watchLoop = AppExecutors.watch().submit(follower::watch);
+        log.debug("Following move journal {}", absolutePath);
+        return follower;
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean journalChanged = false;
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || journalPath.getFileName().equals(event.context())) {
+                        journalChanged = true;
+                        if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE
+                                || event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                            closeChannel();
+                        }
+                    }
+                }
+
+                if (journalChanged) {
+                    readNewRecords();
+                }
+                if (!key.reset()) {
+                    log.warn("Stopped following {}: directory is no longer accessible", journalPath);
+                    return;
+                }
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException _) {
+            log.debug("Stopped following {}", journalPath);
+        } finally {
+            closeChannel();
+        }
+    }
+
+    private synchronized void skipToEnd() {
+        try {
+            if (openChannel()) {
+                position = MoveJournal.syncedTail(channel);
+                scanTo(channel.size(), false);
+            }
+        } catch (IOException e) {
+            log.warn("Cannot read journal tail of {}: {}", journalPath, e.getMessage());
+        }
+    }
+
+    private synchronized void readNewRecords() {
+        try {
+            if (!openChannel()) {
+                return;
+            }
+
+            long size = channel.size();
+            if (size < position) {
+                position = MoveJournal.syncedTail(channel);
+            }
+            if (size > position) {
+                scanTo(size, true);
+            }
+        } catch (IOException e) {
+            log.warn("Cannot read new moves from {}: {}", journalPath, e.getMessage());
+        }
+    }
+
+    private void scanTo(long end, boolean notify) throws IOException {
+        GameMove lastMove = null;
+
+        while (position < end) {
+            GameMove move = MoveJournal.readRecord(channel, position, end);
+            if (move == null) {
+                break;
+            }
+            lastMove = move;
+            position = MoveJournal.nextRecordOffset(channel, position);
+        }
+
+        if (notify && lastMove != null) {
+            onMove.accept(lastMove);
+        }
+    }
+
+    private boolean openChannel() throws IOException {
+        if (channel == null) {
+            if (!Files.exists(journalPath)) {
+                return false;
+            }
+            channel = FileChannel.open(journalPath, StandardOpenOption.READ);
+            position = MoveJournal.syncedTail(channel);
+        }
+        return true;
+    }
+
+    private synchronized void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Error closing journal channel for {}", journalPath, e);
+        }
+        channel = null;
+    }
+
+    @Override
+    public void close() {
+        if (watchLoop != null) {
+            watchLoop.cancel(true);
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.debug("Error closing watch service for {}", journalPath, e);
+        }
+        closeChannel();
+    }
+}
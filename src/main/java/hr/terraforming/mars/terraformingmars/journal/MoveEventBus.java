@@ -0,0 +1,59 @@
+package hr.terraforming.mars.terraformingmars.journal;
+
+import hr.terraforming.mars.terraformingmars.enums.ActionType;
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+public final class MoveEventBus {
+
+    private static final List<Consumer<GameMove>> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+    private static volatile GameMove lastMove;
+
+    private MoveEventBus() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Runnable subscribe(Consumer<GameMove> subscriber) {
+        SUBSCRIBERS.add(subscriber);
+
+        GameMove current = lastMove;
+        if (current != null) {
+            deliver(subscriber, current);
+        }
+        return () -> SUBSCRIBERS.remove(subscriber);
+    }
+
+    public static synchronized void publish(GameMove move) {
+        if (move == null || move.actionType() == ActionType.AUTO_PASS || Objects.equals(move, lastMove)) {
+            return;
+        }
+
+        lastMove = move;
+        for (Consumer<GameMove> subscriber : SUBSCRIBERS) {
+            deliver(subscriber, move);
+        }
+    }
+
+    public static Optional<GameMove> getLastMove() {
+        return Optional.ofNullable(lastMove);
+    }
+
+    public static void reset() {
+        lastMove = null;
+    }
+
+    private static void deliver(Consumer<GameMove> subscriber, GameMove move) {
+        try {
+            subscriber.accept(move);
+        } catch (RuntimeException e) {
+            log.error("Move subscriber failed for {}", move.actionType(), e);
+        }
+    }
+}
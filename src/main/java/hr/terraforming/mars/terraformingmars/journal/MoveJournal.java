@@ -0,0 +1,488 @@
+package hr.terraforming.mars.terraformingmars.journal;
+
+import hr.terraforming.mars.terraformingmars.enums.ActionType;
+import hr.terraforming.mars.terraformingmars.enums.TileType;
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import hr.terraforming.mars.terraformingmars.util.FileUtils;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+@Slf4j
+public class MoveJournal implements Closeable {
+
+    private static final int MAGIC = 0x544D4D4A;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int MAX_RECORD_SIZE = 4 * 1024 * 1024;
+
+    @Getter
+    private final Path path;
+    private FileChannel channel;
+    private final FsyncPolicy fsyncPolicy;
+    private final int batchSize;
+    private long tail;
+    private long lastRecordOffset = -1;
+    private GameMove lastMove;
+    private int moveCount;
+    private int baseSequence;
+    private int unsyncedMoves;
+    private Object fileKey;
+
+    private MoveJournal(Path path, FileChannel channel, FsyncPolicy fsyncPolicy, int batchSize) {
+        this.path = path;
+        this.channel = channel;
+        this.fsyncPolicy = fsyncPolicy;
+        this.batchSize = batchSize;
+    }
+
+    public static MoveJournal open(Path path) throws IOException {
+        return open(path, FsyncPolicy.fromConfiguration(), FsyncPolicy.batchSizeFromConfiguration());
+    }
+
+    public static MoveJournal open(Path path, FsyncPolicy fsyncPolicy, int batchSize) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MoveJournal journal = new MoveJournal(path, channel, fsyncPolicy, batchSize);
+
+        try {
+            journal.fileKey = fileKeyOf(path);
+            journal.recover();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return journal;
+    }
+
+    public synchronized void append(GameMove move) throws IOException {
+        byte[] payload = encode(move);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + payload.length);
+        buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+
+        reopenIfReplaced();
+        try (FileLock _ = channel.lock()) {
+            long fileSize = channel.size();
+            if (fileSize > tail) {
+                unsyncedMoves += scanFrom(fileSize);
+            }
+            writeFully(buffer, tail);
+        }
+
+        lastRecordOffset = tail;
+        tail += RECORD_HEADER_SIZE + payload.length;
+        lastMove = move;
+        moveCount++;
+        unsyncedMoves++;
+
+        if (fsyncPolicy.requiresSync(move, unsyncedMoves, batchSize)) {
+            sync();
+        }
+    }
+
+    public synchronized Optional<GameMove> getLastMove() {
+        return Optional.ofNullable(lastMove);
+    }
+
+    public synchronized int size() {
+        return moveCount;
+    }
+
+    public synchronized long getBaseSequence() {
+        return baseSequence;
+    }
+
+    public synchronized long getSequence() {
+        return (long) baseSequence + moveCount;
+    }
+
+    public synchronized MoveLogCursor cursor() {
+        return new RecordCursor(HEADER_SIZE, tail);
+    }
+
+    public synchronized MoveLogCursor cursorFrom(long sequence) throws IOException {
+        return new RecordCursor(offsetOf(sequence), tail);
+    }
+
+    public synchronized void compact(long sequence) throws IOException {
+        int dropped = (int) Math.min(moveCount, Math.max(0, sequence - baseSequence));
+        if (dropped == 0) {
+            return;
+        }
+
+        long keepFrom = offsetOf(sequence);
+        long shift = keepFrom - HEADER_SIZE;
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+
+        sync();
+        try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(moveCount - dropped)
+                    .putInt(baseSequence + dropped)
+                    .putLong(tail - shift)
+                    .putLong(lastRecordOffset >= keepFrom ? lastRecordOffset - shift : -1)
+                    .flip();
+            while (header.hasRemaining()) {
+                target.write(header, header.position());
+            }
+
+            long copied = 0;
+            while (copied < tail - keepFrom) {
+                copied += channel.transferTo(keepFrom + copied, tail - keepFrom - copied, target.position(HEADER_SIZE + copied));
+            }
+            target.force(true);
+        }
+
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        FileUtils.syncDirectory(path.toAbsolutePath().getParent());
+        channel.close();
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        fileKey = fileKeyOf(path);
+
+        moveCount -= dropped;
+        baseSequence += dropped;
+        tail -= shift;
+        lastRecordOffset = lastRecordOffset >= keepFrom ? lastRecordOffset - shift : -1;
+        log.debug("Compacted {} moves out of journal {}, {} remain", dropped, path, moveCount);
+    }
+
+    private void reopenIfReplaced() throws IOException {
+        if (fileKey == null || !Files.exists(path) || fileKey.equals(fileKeyOf(path))) {
+            return;
+        }
+
+        log.info("Move journal {} was compacted by another process, reopening", path);
+        channel.close();
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        fileKey = fileKeyOf(path);
+        unsyncedMoves = 0;
+        recover();
+    }
+
+    private static Object fileKeyOf(Path path) throws IOException {
+        return Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+    }
+
+    private long offsetOf(long sequence) throws IOException {
+        long offset = HEADER_SIZE;
+        for (long skipped = baseSequence; skipped < sequence && offset < tail; skipped++) {
+            offset = nextRecordOffset(channel, offset);
+        }
+        return offset;
+    }
+
+    public synchronized void sync() throws IOException {
+        if (unsyncedMoves == 0) {
+            return;
+        }
+
+        channel.force(false);
+        writeHeader();
+        unsyncedMoves = 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+
+        try {
+            sync();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void recover() throws IOException {
+        long fileSize = channel.size();
+
+        if (fileSize < HEADER_SIZE) {
+            tail = HEADER_SIZE;
+            channel.truncate(0);
+            writeHeader();
+            channel.force(false);
+            return;
+        }
+
+        ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+        int magic = header.getInt();
+        int version = header.getInt();
+        if (magic != MAGIC || version != FORMAT_VERSION) {
+            throw new IOException("Not a move journal (magic " + Integer.toHexString(magic) + ", version " + version + "): " + path);
+        }
+
+        int syncedCount = header.getInt();
+        baseSequence = Math.max(0, header.getInt());
+        long syncedTail = header.getLong();
+        long syncedLast = header.getLong();
+
+        if (isValidCheckpoint(syncedTail, syncedLast, fileSize)) {
+            moveCount = syncedCount;
+            tail = syncedTail;
+            lastRecordOffset = syncedLast;
+            lastMove = syncedLast >= 0 ? readRecord(channel, syncedLast, fileSize) : null;
+        } else {
+            log.warn("Move journal header of {} is inconsistent, rescanning all records", path);
+            moveCount = 0;
+            tail = HEADER_SIZE;
+            lastRecordOffset = -1;
+            lastMove = null;
+        }
+
+        int replayed = scanFrom(fileSize);
+        if (tail < fileSize) {
+            log.warn("Truncating {} bytes of torn records from {}", fileSize - tail, path);
+            channel.truncate(tail);
+        }
+
+        if (replayed > 0 || tail != syncedTail) {
+            unsyncedMoves = replayed;
+            channel.force(false);
+            writeHeader();
+            unsyncedMoves = 0;
+        }
+        log.debug("Opened move journal {} with {} moves", path, moveCount);
+    }
+
+    private boolean isValidCheckpoint(long syncedTail, long syncedLast, long fileSize) throws IOException {
+        if (syncedTail < HEADER_SIZE || syncedTail > fileSize) {
+            return false;
+        }
+        if (syncedLast < 0) {
+            return syncedTail == HEADER_SIZE;
+        }
+        return syncedLast >= HEADER_SIZE && syncedLast < syncedTail && readRecord(channel, syncedLast, fileSize) != null;
+    }
+
+    private int scanFrom(long fileSize) throws IOException {
+        int replayed = 0;
+
+        while (tail < fileSize) {
+            GameMove move = readRecord(channel, tail, fileSize);
+            if (move == null) {
+                break;
+            }
+
+            lastRecordOffset = tail;
+            lastMove = move;
+            tail = nextRecordOffset(channel, tail);
+            moveCount++;
+            replayed++;
+        }
+        return replayed;
+    }
+
+    static GameMove readRecord(FileChannel channel, long offset, long fileSize) throws IOException {
+        if (offset + RECORD_HEADER_SIZE > fileSize) {
+            return null;
+        }
+
+        ByteBuffer recordHeader = readFully(channel, offset, RECORD_HEADER_SIZE);
+        int length = recordHeader.getInt();
+        int checksum = recordHeader.getInt();
+        if (length <= 0 || length > MAX_RECORD_SIZE || offset + RECORD_HEADER_SIZE + length > fileSize) {
+            return null;
+        }
+
+        byte[] payload = readFully(channel, offset + RECORD_HEADER_SIZE, length).array();
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+
+        try {
+            return decode(payload);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Skipping undecodable journal record at offset {}: {}", offset, e.getMessage());
+            return null;
+        }
+    }
+
+    static long nextRecordOffset(FileChannel channel, long offset) throws IOException {
+        return offset + RECORD_HEADER_SIZE + readFully(channel, offset, Integer.BYTES).getInt();
+    }
+
+    static long syncedTail(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            return HEADER_SIZE;
+        }
+
+        ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+        if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+            return HEADER_SIZE;
+        }
+        long tail = header.getLong(HEADER_SIZE - Long.BYTES * 2);
+        return tail >= HEADER_SIZE && tail <= channel.size() ? tail : HEADER_SIZE;
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(moveCount)
+                .putInt(baseSequence)
+                .putLong(tail)
+                .putLong(lastRecordOffset)
+                .flip();
+        writeFully(header, 0);
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of journal at offset " + position);
+            }
+        }
+        return buffer.flip();
+    }
+
+    static byte[] encode(GameMove move) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, move.playerName());
+            writeString(out, move.actionType() != null ? move.actionType().name() : null);
+            writeString(out, move.details());
+            writeString(out, move.message());
+            writeInteger(out, move.row());
+            writeInteger(out, move.col());
+            writeString(out, move.tileType() != null ? move.tileType().name() : null);
+
+            out.writeBoolean(move.timestamp() != null);
+            if (move.timestamp() != null) {
+                out.writeLong(move.timestamp().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(move.timestamp().getNano());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static GameMove decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            String playerName = readString(in);
+            String actionType = readString(in);
+            String details = readString(in);
+            String message = readString(in);
+            Integer row = readInteger(in);
+            Integer col = readInteger(in);
+            String tileType = readString(in);
+            LocalDateTime timestamp = in.readBoolean()
+                    ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC)
+                    : null;
+
+            return new GameMove(playerName,
+                    actionType != null ? ActionType.valueOf(actionType) : null,
+                    details, message, row, col,
+                    tileType != null ? TileType.valueOf(tileType) : null,
+                    timestamp);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readInteger(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private class RecordCursor implements MoveLogCursor {
+
+        private final long end;
+        private long position;
+
+        private RecordCursor(long start, long end) {
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < end;
+        }
+
+        @Override
+        public GameMove next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                GameMove move = readRecord(channel, position, end);
+                if (move == null) {
+                    throw new UncheckedIOException(new IOException("Corrupt journal record at offset " + position + " in " + path));
+                }
+                position = nextRecordOffset(channel, position);
+                return move;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            position = end;
+        }
+    }
+}
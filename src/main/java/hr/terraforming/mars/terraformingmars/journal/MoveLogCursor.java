@@ -0,0 +1,64 @@
+package hr.terraforming.mars.terraformingmars.journal;
+
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Pull-based view over a move log. Moves are decoded one at a time as the caller asks for them,
+ * so walking a log never holds more than the current record in memory.
+ */
+public interface MoveLogCursor extends Iterator<GameMove>, Closeable {
+
+    @Override
+    void close();
+
+    static MoveLogCursor empty() {
+        return new MoveLogCursor() {
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+
+            @Override
+            public GameMove next() {
+                throw new NoSuchElementException();
+            }
+
+            @Override
+            public void close() {
+                // nothing to release
+            }
+        };
+    }
+
+    static MoveLogCursor prepend(Collection<GameMove> moves, MoveLogCursor rest) {
+        Deque<GameMove> head = new ArrayDeque<>(moves);
+        if (head.isEmpty()) {
+            return rest;
+        }
+
+        return new MoveLogCursor() {
+            @Override
+            public boolean hasNext() {
+                return !head.isEmpty() || rest.hasNext();
+            }
+
+            @Override
+            public GameMove next() {
+                return !head.isEmpty() ? head.poll() : rest.next();
+            }
+
+            @Override
+            public void close() {
+                head.clear();
+                rest.close();
+            }
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package hr.terraforming.mars.terraformingmars.journal;
+
+import hr.terraforming.mars.terraformingmars.model.GameState;
+import hr.terraforming.mars.terraformingmars.util.FileUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+@Slf4j
+public class SnapshotStore {
+
+    private static final int MAGIC = 0x544D534E;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 4 + Long.BYTES;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".dat";
+
+    private final Path directory;
+    private final int retained;
+
+    public record Snapshot(long sequence, GameState state, Path path) {
+    }
+
+    public SnapshotStore(Path directory, int retained) {
+        this.directory = directory;
+        this.retained = Math.max(1, retained);
+    }
+
+    public synchronized void write(long sequence, byte[] state) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(fileName(sequence));
+
+        CRC32C crc = new CRC32C();
+        crc.update(state);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(sequence)
+                .putInt(state.length)
+                .putInt((int) crc.getValue())
+                .flip();
+
+        FileUtils.writeAtomically(target, header, state, _ -> {});
+        log.debug("Wrote snapshot {} ({} bytes)", target, state.length);
+
+        prune();
+    }
+
+    public synchronized Optional<Snapshot> latest(long minimumSequence) {
+        for (Path path : snapshotFiles()) {
+            try {
+                Snapshot snapshot = read(path);
+                if (snapshot.sequence() >= minimumSequence) {
+                    return Optional.of(snapshot);
+                }
+                log.warn("Snapshot {} predates the journal (sequence {} < {}), skipping", path, snapshot.sequence(), minimumSequence);
+            } catch (IOException | ClassNotFoundException | ClassCastException e) {
+                log.warn("Skipping unreadable snapshot {}: {}", path, e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    public synchronized OptionalLong oldestSequence() {
+        List<Path> files = snapshotFiles();
+        return files.isEmpty() ? OptionalLong.empty() : OptionalLong.of(sequenceOf(files.getLast()));
+    }
+
+    public synchronized void clear() {
+        for (Path path : snapshotFiles()) {
+            delete(path);
+        }
+    }
+
+    private Snapshot read(Path path) throws IOException, ClassNotFoundException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not a snapshot file");
+            }
+
+            long sequence = in.readLong();
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length < 0 || length > Files.size(path) - HEADER_SIZE) {
+                throw new IOException("Truncated snapshot");
+            }
+
+            byte[] state = in.readNBytes(length);
+            CRC32C crc = new CRC32C();
+            crc.update(state);
+            if (state.length != length || (int) crc.getValue() != checksum) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+
+            try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(state))) {
+                return new Snapshot(sequence, (GameState) objects.readObject(), path);
+            }
+        }
+    }
+
+    private void prune() {
+        List<Path> files = snapshotFiles();
+        for (Path path : files.subList(Math.min(retained, files.size()), files.size())) {
+            delete(path);
+        }
+    }
+
+    private List<Path> snapshotFiles() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> snapshots = new ArrayList<>(files
+                    .filter(path -> path.getFileName().toString().startsWith(PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                    .toList());
+            snapshots.sort(Comparator.comparingLong(SnapshotStore::sequenceOf).reversed());
+            return snapshots;
+        } catch (IOException e) {
+            log.warn("Cannot list snapshots in {}: {}", directory, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException _) {
+            return -1;
+        }
+    }
+
+    private static String fileName(long sequence) {
+        return PREFIX + String.format("%012d", sequence) + SUFFIX;
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete snapshot {}: {}", path, e.getMessage());
+        }
+    }
+}
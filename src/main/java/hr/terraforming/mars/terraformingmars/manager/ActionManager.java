@@ -4,10 +4,11 @@ import hr.terraforming.mars.terraformingmars.controller.game.SellPatentsControll
 import hr.terraforming.mars.terraformingmars.controller.game.GameScreenController;
 import hr.terraforming.mars.terraformingmars.enums.*;
 import hr.terraforming.mars.terraformingmars.model.*;
-import hr.terraforming.mars.terraformingmars.thread.SaveNewGameMoveThread;
+import hr.terraforming.mars.terraformingmars.service.CheckpointService;
+import hr.terraforming.mars.terraformingmars.service.MoveRulesService;
+import hr.terraforming.mars.terraformingmars.util.GameLoopUtils;
 import hr.terraforming.mars.terraformingmars.util.ScreenUtils;
 import hr.terraforming.mars.terraformingmars.util.XmlUtils;
-import javafx.application.Platform;
 import javafx.stage.Window;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +16,6 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 @Slf4j
 public class ActionManager {
@@ -53,8 +53,8 @@ public class ActionManager {
     public void saveMove(GameMove move) {
         if (move.actionType() != ActionType.AUTO_PASS) {
             XmlUtils.appendGameMove(move);
-            new Thread(new SaveNewGameMoveThread(move)).start();
         }
+        CheckpointService.recordMove(move, getGameManager(), controller.getGameBoard());
 
         controller.onLocalPlayerMove(move);
     }
@@ -71,13 +71,7 @@ public class ActionManager {
         if (getGameManager().getActionsTakenThisTurn() >= 2) {
             log.info("Player has taken 2 actions. Automatically passing turn.");
             if (getGameManager().getCurrentPhase() == GamePhase.ACTIONS) {
-                Platform.runLater(() -> {
-                    try {
-                        Thread.sleep(100);
-                    } catch (InterruptedException _) {
-                        Thread.currentThread().interrupt();
-                    }
-                    executionManager.handlePassTurn(true);                });
+                GameLoopUtils.submitToGameLoop(() -> executionManager.handlePassTurn(true));
             } else {
                 log.info("Skipping auto-pass - phase: {}", getGameManager().getCurrentPhase());
             }
@@ -86,39 +80,41 @@ public class ActionManager {
 
 
     public void handlePassTurn() {
-        executionManager.handlePassTurn(false);
+        GameLoopUtils.runInGameLoop(() -> executionManager.handlePassTurn(false));
     }
 
     public void handlePlayCard(Card card) {
-        executionManager.handlePlayCard(card);
+        GameLoopUtils.runInGameLoop(() -> executionManager.handlePlayCard(card));
     }
 
     public void handleClaimMilestone(Milestone milestone) {
-        executionManager.handleClaimMilestone(milestone);
+        GameLoopUtils.runInGameLoop(() -> executionManager.handleClaimMilestone(milestone));
     }
 
     public void handleStandardProject(StandardProject project) {
-        executionManager.handleStandardProject(project);
+        GameLoopUtils.runInGameLoop(() -> executionManager.handleStandardProject(project));
     }
 
     public void handleConvertHeat() {
-        executionManager.handleConvertHeat();
+        GameLoopUtils.runInGameLoop(executionManager::handleConvertHeat);
     }
 
     public void handleConvertPlants() {
-        executionManager.handleConvertPlants();
+        GameLoopUtils.runInGameLoop(executionManager::handleConvertPlants);
     }
 
     public void handleSellPatents() {
-        Consumer<List<Card>> onSaleCompleteAction = soldCards -> {
+        Player seller = getGameManager().getCurrentPlayer();
+        Consumer<List<Card>> onSaleCompleteAction = soldCards -> GameLoopUtils.runInGameLoop(() -> {
 
             int count = soldCards.size();
             String patent = (count == 1) ? "patent" : "patents";
             String message = "sold " + count + " " + patent + " for " + count + " MC";
 
-            String cardNames = soldCards.stream()
-                    .map(Card::getName)
-                    .collect(Collectors.joining(", "));
+            List<String> soldCardNames = soldCards.stream().map(Card::getName).toList();
+            MoveRulesService.sellPatents(seller, soldCardNames);
+
+            String cardNames = String.join(", ", soldCardNames);
 
             GameMove showModal = new GameMove(
                     getGameManager().getCurrentPlayer().getName(),
@@ -139,15 +135,17 @@ public class ActionManager {
 
             performAction();
             saveMove(move);
-        };
+        });
 
-        Window owner = controller.getHexBoardPane().getScene().getWindow();
+        GameLoopUtils.runOnFxThread(() -> {
+            Window owner = controller.getHexBoardPane().getScene().getWindow();
 
-        ScreenUtils.showAsModal(
-                owner,
-                "SellPatents.fxml",
-                "Sell Patents",
-                (SellPatentsController c) -> c.setupForSale(getGameManager().getCurrentPlayer(), onSaleCompleteAction)
-        );
+            ScreenUtils.showAsModal(
+                    owner,
+                    "SellPatents.fxml",
+                    "Sell Patents",
+                    (SellPatentsController c) -> c.setupForSale(seller, onSaleCompleteAction)
+            );
+        });
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import hr.terraforming.mars.terraformingmars.enums.*;
 import hr.terraforming.mars.terraformingmars.exception.GameStateException;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.service.CostService;
+import hr.terraforming.mars.terraformingmars.service.MoveRulesService;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDateTime;
@@ -16,9 +17,6 @@ public class ExecutionManager {
     private final ActionManager actionManager;
     private final GameFlowManager gameFlowManager;
 
-    private static final int MILESTONE_COST = 8;
-    private static final int CONVERSION_COST = 8;
-
     public ExecutionManager(GameScreenController controller, ActionManager actionManager, GameFlowManager gameFlowManager) {
         this.controller = controller;
         this.actionManager = actionManager;
@@ -88,10 +86,10 @@ public class ExecutionManager {
             if (isLocalPlayerMove(currentPlayer)) {
                 controller.getPlacementManager().enterPlacementModeForCard(card, move);
             } else {
-                currentPlayer.playCard(card, getGameManager());
+                MoveRulesService.playCard(card, currentPlayer, getGameManager());
             }
         } else {
-            currentPlayer.playCard(card, getGameManager());
+            MoveRulesService.playCard(card, currentPlayer, getGameManager());
             actionManager.performAction();
             actionManager.saveMove(move);
         }
@@ -100,8 +98,7 @@ public class ExecutionManager {
     public void handleClaimMilestone(Milestone milestone) {
         Player currentPlayer = getGameManager().getCurrentPlayer();
 
-        if (getGameBoard().canClaimMilestone(milestone, currentPlayer)) {
-            currentPlayer.canSpendMC(MILESTONE_COST);
+        if (MoveRulesService.claimMilestone(milestone, currentPlayer, getGameBoard())) {
             actionManager.performAction();
             GameMove move = new GameMove(currentPlayer.getName(), ActionType.CLAIM_MILESTONE, milestone.name(),
                     "claimed milestone: " + milestone.name(), LocalDateTime.now());
@@ -130,7 +127,7 @@ public class ExecutionManager {
             if (isLocalPlayerMove(currentPlayer)) {
                 controller.getPlacementManager().enterPlacementModeForProject(project, move);
             } else {
-                currentPlayer.canSpendMC(finalCost);
+                MoveRulesService.payForProject(project, currentPlayer);
             }
         } else {
             if (project == StandardProject.SELL_PATENTS) {
@@ -140,9 +137,7 @@ public class ExecutionManager {
                 if (isLocalPlayerMove(currentPlayer)) {
                     actionManager.handleSellPatents();
                 }
-            } else {
-                currentPlayer.canSpendMC(finalCost);
-                project.execute(currentPlayer, getGameBoard());
+            } else if (MoveRulesService.useStandardProject(project, currentPlayer, getGameBoard())) {
                 actionManager.performAction();
                 actionManager.saveMove(move);
             }
@@ -152,16 +147,11 @@ public class ExecutionManager {
     public void handleConvertHeat() {
         Player currentPlayer = getGameManager().getCurrentPlayer();
 
-        if (currentPlayer.resourceProperty(ResourceType.HEAT).get() < CONVERSION_COST) {
+        if (!MoveRulesService.canConvertHeat(currentPlayer)) {
             throw new GameStateException("Player '" + currentPlayer.getName() + "' cannot convert heat: insufficient resources.");
         }
 
-        currentPlayer.resourceProperty(ResourceType.HEAT).set(
-                currentPlayer.resourceProperty(ResourceType.HEAT).get() - CONVERSION_COST
-        );
-
-        getGameBoard().canIncreaseTemperature();
-        currentPlayer.increaseTR(1);
+        MoveRulesService.convertHeat(currentPlayer, getGameBoard());
         actionManager.performAction();
 
         GameMove move = new GameMove(
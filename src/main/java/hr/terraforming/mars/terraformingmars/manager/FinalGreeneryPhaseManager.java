@@ -8,6 +8,7 @@ import hr.terraforming.mars.terraformingmars.enums.ResourceType;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.message.FinalGreeneryOfferMessage;
 import hr.terraforming.mars.terraformingmars.network.message.GameOverMessage;
+import hr.terraforming.mars.terraformingmars.util.GameLoopUtils;
 import hr.terraforming.mars.terraformingmars.util.ScreenUtils;
 import hr.terraforming.mars.terraformingmars.view.ScreenNavigator;
 import javafx.application.Platform;
@@ -36,7 +37,7 @@ public class FinalGreeneryPhaseManager {
     public void start() {
         gameManager.setCurrentPhase(GamePhase.FINAL_GREENERY);
         currentPlayerIndex = 0;
-        Platform.runLater(this::processNextPlayer);
+        GameLoopUtils.submitToGameLoop(this::processNextPlayer);
     }
 
     public void processNextPlayer() {
@@ -115,14 +116,14 @@ public class FinalGreeneryPhaseManager {
     }
 
     private void showModalForPlayer(Player player) {
-        ScreenUtils.showAsModal(
+        GameLoopUtils.runOnFxThread(() -> ScreenUtils.showAsModal(
                 ownerWindow,
                 "FinalGreenery.fxml",
                 "Final Greenery Conversion - " + player.getName(),
                 (FinalGreeneryController c) -> c.setupSinglePlayer(
-                        player, gameManager, controller, this::finishForCurrentPlayer
+                        player, gameManager, controller, () -> GameLoopUtils.runInGameLoop(this::finishForCurrentPlayer)
                 )
-        );
+        ));
     }
 
     void finishForCurrentPlayer() {
@@ -147,6 +148,6 @@ public class FinalGreeneryPhaseManager {
         }
 
         currentPlayerIndex++;
-        Platform.runLater(this::processNextPlayer);
+        GameLoopUtils.submitToGameLoop(this::processNextPlayer);
     }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import hr.terraforming.mars.terraformingmars.enums.ActionType;
 import hr.terraforming.mars.terraformingmars.enums.GamePhase;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.NetworkBroadcaster;
+import hr.terraforming.mars.terraformingmars.service.CheckpointService;
 import hr.terraforming.mars.terraformingmars.util.XmlUtils;
 import hr.terraforming.mars.terraformingmars.view.ScreenNavigator;
 import javafx.application.Platform;
@@ -69,6 +70,8 @@ public class GameFlowManager {
                 startNewGeneration();
             }
         }
+
+        CheckpointService.checkpoint(getGameManager(), getGameBoard());
     }
 
     private void startNewGeneration() {
@@ -80,6 +83,7 @@ public class GameFlowManager {
         if (getGameManager().getGeneration() > 1) {
             executePlayerOrderPhase();
         }
+        CheckpointService.checkpoint(getGameManager(), getGameBoard());
 
         controller.setViewedPlayer(getGameManager().getFirstPlayer());
         controller.refreshGameScreen();
@@ -131,6 +135,7 @@ public class GameFlowManager {
         log.info("Research phase complete. Starting Action Phase.");
 
         getGameManager().beginActionPhase();
+        CheckpointService.checkpoint(getGameManager(), getGameBoard());
 
         controller.refreshGameScreen();
 
@@ -6,11 +6,9 @@ import hr.terraforming.mars.terraformingmars.enums.PlayerType;
 import hr.terraforming.mars.terraformingmars.enums.StandardProject;
 import hr.terraforming.mars.terraformingmars.factory.CardFactory;
 import hr.terraforming.mars.terraformingmars.model.*;
+import hr.terraforming.mars.terraformingmars.service.MoveRulesService;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Arrays;
-import java.util.List;
-
 @Slf4j
 public record GameMoveManager(ActionManager actionManager) {
 
@@ -99,24 +97,19 @@ public record GameMoveManager(ActionManager actionManager) {
         Tile tile = getGameBoard().getTileAt(move.row(), move.col());
 
         if (tile != null && player != null) {
-            switch (move.tileType()) {
-                case OCEAN -> getGameBoard().placeOcean(tile, player);
-                case GREENERY -> getGameBoard().placeGreenery(tile, player);
-                case CITY -> getGameBoard().placeCity(tile, player);
-                default -> log.warn("Received PLACE_TILE with unhandled type: {}", move.tileType());
+            try {
+                MoveRulesService.placeTile(move.tileType(), tile, player, getGameBoard());
+                actionManager.performAction();
+            } catch (IllegalArgumentException _) {
+                log.warn("Received PLACE_TILE with unhandled type: {}", move.tileType());
             }
-            actionManager.performAction();
         }
     }
 
     private void handleSellPatents(GameMove move) {
         Player player = getGameManager().getPlayerByName(move.playerName());
         if (player != null && !player.getHand().isEmpty()) {
-            List<String> soldCardNames = Arrays.asList(move.details().split(","));
-
-            player.getHand().removeIf(card -> soldCardNames.contains(card.getName()));
-            player.canSpendMC(-soldCardNames.size());
-
+            MoveRulesService.sellPatents(player, MoveRulesService.cardNames(move.details()));
             actionManager.performAction();
         }
     }
@@ -1,6 +1,7 @@
 package hr.terraforming.mars.terraformingmars.manager;
 
 import hr.terraforming.mars.terraformingmars.model.ApplicationConfiguration;
+import hr.terraforming.mars.terraformingmars.thread.AppExecutors;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -27,6 +28,13 @@ public final class GameSessionManager {
             config.setGameClient(null);
         }
 
+        var controller = config.getActiveGameController();
+        if (controller != null) {
+            controller.stopMoveHistory();
+        }
+
+        AppExecutors.cancelSessionTasks();
+
         config.setActiveGameController(null);
         config.setBroadcaster(null);
         config.setPlayerType(null);
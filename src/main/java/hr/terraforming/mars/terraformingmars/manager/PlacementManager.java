@@ -6,6 +6,7 @@ import hr.terraforming.mars.terraformingmars.enums.*;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.NetworkBroadcaster;
 import hr.terraforming.mars.terraformingmars.service.PlacementService;
+import hr.terraforming.mars.terraformingmars.util.GameLoopUtils;
 import javafx.application.Platform;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -66,19 +67,21 @@ public class PlacementManager {
     private void enterPlacementMode(PlacementMode placementMode, TileType tileTypeToPlace, GameMove moveInProgress,
                                     Card cardToPlace, StandardProject projectToPlace, Player finalGreeneryPlayer, Runnable onPlacementCompleteCallback) {
 
-        this.placementMode = placementMode;
-        this.tileTypeToPlace = tileTypeToPlace;
-        this.moveInProgress = moveInProgress;
-        this.cardToPlace = cardToPlace;
-        this.projectToPlace = projectToPlace;
-        this.finalGreeneryPlayer = finalGreeneryPlayer;
-        this.onPlacementCompleteCallback = onPlacementCompleteCallback;
-
-        gameScreenController.drawBoard();
-        if (placementMode != PlacementMode.FINAL_GREENERY) {
-            gameScreenController.setGameControlsEnabled(false);
-            gameScreenController.setCancelButtonVisible(true);
-        }
+        GameLoopUtils.runOnFxThread(() -> {
+            this.placementMode = placementMode;
+            this.tileTypeToPlace = tileTypeToPlace;
+            this.moveInProgress = moveInProgress;
+            this.cardToPlace = cardToPlace;
+            this.projectToPlace = projectToPlace;
+            this.finalGreeneryPlayer = finalGreeneryPlayer;
+            this.onPlacementCompleteCallback = onPlacementCompleteCallback;
+
+            gameScreenController.drawBoard();
+            if (placementMode != PlacementMode.FINAL_GREENERY) {
+                gameScreenController.setGameControlsEnabled(false);
+                gameScreenController.setCancelButtonVisible(true);
+            }
+        });
     }
 
     public void executePlacement(Tile selectedTile) {
@@ -93,23 +96,33 @@ public class PlacementManager {
 
         boolean wasFinalGreenery = (placementMode == PlacementMode.FINAL_GREENERY);
 
-        PlacementService placementService = new PlacementService(gameBoard);
         PlacementService.PlacementContext context = new PlacementService.PlacementContext(
                 placementMode, selectedTile, placementOwner, gameManager,
                 tileTypeToPlace, cardToPlace, projectToPlace
         );
+        GameMove placedMove = moveInProgress;
+        TileType placedTileType = tileTypeToPlace;
+        resetPlacementState();
 
-        placementService.placeByMode(context);
+        GameLoopUtils.runInGameLoop(() -> {
+            new PlacementService(gameBoard).placeByMode(context);
 
-        if (!wasFinalGreenery) {
-            actionManager.performAction();
-        }
+            if (!wasFinalGreenery) {
+                actionManager.performAction();
+            }
+
+            recordMoves(selectedTile, placementOwner, placedMove, placedTileType);
+
+            NetworkBroadcaster broadcaster = ApplicationConfiguration.getInstance().getBroadcaster();
+            if (broadcaster != null) {
+                broadcaster.broadcast();
+            }
 
-        recordMoves(selectedTile, placementOwner);
-        finishPlacement(wasFinalGreenery);
+            GameLoopUtils.runOnFxThread(() -> finishPlacement(wasFinalGreenery));
+        });
     }
 
-    private void recordMoves(Tile tile, Player owner) {
+    private void recordMoves(Tile tile, Player owner, GameMove moveInProgress, TileType tileTypeToPlace) {
         if (moveInProgress != null) {
             actionManager.saveMove(moveInProgress);
         }
@@ -150,19 +163,12 @@ public class PlacementManager {
     }
 
     private void finishPlacement(boolean wasFinalGreenery) {
-        resetPlacementState();
         if (!wasFinalGreenery) {
             gameScreenController.setGameControlsEnabled(true);
         }
 
         gameScreenController.drawBoard();
 
-        var config = ApplicationConfiguration.getInstance();
-        NetworkBroadcaster broadcaster = config.getBroadcaster();
-        if (broadcaster != null) {
-            broadcaster.broadcast();
-        }
-
         if (wasFinalGreenery && onPlacementCompleteCallback != null) {
             Platform.runLater(onPlacementCompleteCallback);
         }
@@ -9,6 +9,7 @@ import hr.terraforming.mars.terraformingmars.model.GameMove;
 import hr.terraforming.mars.terraformingmars.network.message.ProductionPhaseMessage;
 import hr.terraforming.mars.terraformingmars.model.ProductionReport;
 import hr.terraforming.mars.terraformingmars.service.ProductionReportService;
+import hr.terraforming.mars.terraformingmars.util.GameLoopUtils;
 import hr.terraforming.mars.terraformingmars.util.ScreenUtils;
 import javafx.application.Platform;
 import javafx.stage.Window;
@@ -72,7 +73,7 @@ public class ProductionPhaseManager {
                 "Production Phase - Generation " + generation,
                 (ProductionPhaseController c) -> {
                     c.loadProductionSummaries(summaries, generation);
-                    c.setOnContinueAction(this::onContinueClicked);
+                    c.setOnContinueAction(() -> GameLoopUtils.runInGameLoop(this::onContinueClicked));
                 }
         );
     }
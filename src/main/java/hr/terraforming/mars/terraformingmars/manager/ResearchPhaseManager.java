@@ -5,6 +5,7 @@ import hr.terraforming.mars.terraformingmars.controller.game.GameScreenControlle
 import hr.terraforming.mars.terraformingmars.enums.ActionType;
 import hr.terraforming.mars.terraformingmars.enums.PlayerType;
 import hr.terraforming.mars.terraformingmars.model.*;
+import hr.terraforming.mars.terraformingmars.service.MoveRulesService;
 import hr.terraforming.mars.terraformingmars.util.ScreenUtils;
 import javafx.application.Platform;
 import javafx.stage.Window;
@@ -92,10 +93,7 @@ public class ResearchPhaseManager {
             controller.getActionManager().saveMove(modalMove);
         }
 
-        int cost = boughtCards.size() * 3;
-        if (currentPlayer.canSpendMC(cost)) {
-            currentPlayer.getHand().addAll(boughtCards);
-        }
+        MoveRulesService.buyResearchCards(currentPlayer, boughtCards);
 
         String myPlayerName = ApplicationConfiguration.getInstance().getMyPlayerName();
         if (currentPlayer.getName().equals(myPlayerName)) {
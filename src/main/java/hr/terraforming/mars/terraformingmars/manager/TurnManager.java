@@ -7,7 +7,10 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 public class TurnManager implements Serializable {
@@ -24,6 +27,15 @@ public class TurnManager implements Serializable {
         this.firstPlayer = players.isEmpty() ? null : players.getFirst();
     }
 
+    public TurnManager copy(UnaryOperator<Player> playerCopies) {
+        TurnManager copy = new TurnManager(new ArrayList<>(players.stream().map(playerCopies).toList()));
+        copy.currentPlayerIndex = currentPlayerIndex;
+        copy.firstPlayer = playerCopies.apply(firstPlayer);
+        copy.actionsTakenThisTurn = actionsTakenThisTurn;
+        passedPlayers.forEach(player -> copy.passedPlayers.add(playerCopies.apply(player)));
+        return copy;
+    }
+
     public Player getCurrentPlayer() {
         return players.get(currentPlayerIndex);
     }
@@ -102,6 +114,23 @@ public class TurnManager implements Serializable {
         actionsTakenThisTurn = 0;
     }
 
+    public List<Player> getPassedPlayers() {
+        return Collections.unmodifiableList(passedPlayers);
+    }
+
+    public void restore(Player currentPlayer, Player firstPlayer, Collection<Player> passed, int actionsTaken) {
+        int index = players.indexOf(currentPlayer);
+        if (index < 0) {
+            throw new GameStateException("Cannot restore turn state: unknown current player");
+        }
+
+        this.currentPlayerIndex = index;
+        this.firstPlayer = firstPlayer;
+        this.actionsTakenThisTurn = actionsTaken;
+        passedPlayers.clear();
+        passedPlayers.addAll(passed);
+    }
+
     public void reset() {
         currentPlayerIndex = 0;
         actionsTakenThisTurn = 0;
@@ -9,6 +9,7 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import java.io.*;
 import java.util.*;
+import java.util.function.UnaryOperator;
 
 @Slf4j
 public class GameBoard implements Serializable {
@@ -53,6 +54,22 @@ public class GameBoard implements Serializable {
         claimedMilestones.clear();
     }
 
+    private GameBoard(GameBoard source, UnaryOperator<Player> playerCopies) {
+        this.placementService = new PlacementService(this);
+        this.oxygenLevel = source.oxygenLevel;
+        this.temperature = source.temperature;
+        this.oceansPlaced = source.oceansPlaced;
+        this.isFinalGeneration = source.isFinalGeneration;
+        source.claimedMilestones.forEach((milestone, player) -> claimedMilestones.put(milestone, playerCopies.apply(player)));
+        for (Tile tile : source.tiles) {
+            tiles.add(new Tile(tile.getRow(), tile.getCol(), tile.getType(), playerCopies.apply(tile.getOwner())));
+        }
+    }
+
+    public GameBoard copy(UnaryOperator<Player> playerCopies) {
+        return new GameBoard(this, playerCopies);
+    }
+
     @Serial
     private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
         in.defaultReadObject();
@@ -166,6 +183,16 @@ public class GameBoard implements Serializable {
         return Collections.unmodifiableMap(claimedMilestones);
     }
 
+    public void restoreGlobalParameters(int oxygen, int temperature, int oceans, boolean finalGeneration,
+                                        Map<Milestone, Player> milestones) {
+        this.oxygenLevel = oxygen;
+        this.temperature = temperature;
+        this.oceansPlaced = oceans;
+        this.isFinalGeneration = finalGeneration;
+        claimedMilestones.clear();
+        claimedMilestones.putAll(milestones);
+    }
+
     public List<Tile> getAdjacentTiles(Tile centerTile) {
         return HexGridUtils.getAdjacentTiles(centerTile, this.tiles);
     }
@@ -7,6 +7,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import hr.terraforming.mars.terraformingmars.service.DeckService;
 import hr.terraforming.mars.terraformingmars.service.ProductionService;
 import hr.terraforming.mars.terraformingmars.service.ScoringService;
@@ -22,6 +23,7 @@ public class GameManager implements Serializable {
     private final DeckService deckService;
     private transient GameBoard board;
 
+    @Getter
     private int cardDraftPlayerIndex = 0;
 
     @Getter
@@ -37,6 +39,20 @@ public class GameManager implements Serializable {
         relink(gameBoard);
     }
 
+    private GameManager(GameManager source, UnaryOperator<Player> playerCopies, GameBoard gameBoard) {
+        this.players = new ArrayList<>(source.players.stream().map(playerCopies).toList());
+        this.turnManager = source.turnManager.copy(playerCopies);
+        this.deckService = source.deckService.copy();
+        this.cardDraftPlayerIndex = source.cardDraftPlayerIndex;
+        this.generation = source.generation;
+        this.currentPhase = source.currentPhase;
+        relink(gameBoard);
+    }
+
+    public GameManager copy(UnaryOperator<Player> playerCopies, GameBoard gameBoard) {
+        return new GameManager(this, playerCopies, gameBoard);
+    }
+
     public void startGame() {
         currentPhase = GamePhase.ACTIONS;
         generation = 1;
@@ -142,6 +158,27 @@ public class GameManager implements Serializable {
         return turnManager.getCurrentPlayer();
     }
 
+    public List<Player> getPassedPlayers() {
+        return turnManager.getPassedPlayers();
+    }
+
+    public Player getPlayerByNumber(int playerNumber) {
+        return players.stream()
+                .filter(p -> p.getPlayerNumber() == playerNumber)
+                .findFirst()
+                .orElse(null);
+    }
+
+    public void restoreProgress(int generation, GamePhase phase, int cardDraftPlayerIndex) {
+        this.generation = generation;
+        this.currentPhase = phase;
+        this.cardDraftPlayerIndex = cardDraftPlayerIndex;
+    }
+
+    public void restoreTurnState(Player currentPlayer, Player firstPlayer, List<Player> passedPlayers, int actionsTaken) {
+        turnManager.restore(currentPlayer, firstPlayer, passedPlayers, actionsTaken);
+    }
+
     public Player getFirstPlayer() {
         return turnManager.getFirstPlayer();
     }
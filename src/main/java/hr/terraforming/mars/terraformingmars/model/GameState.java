@@ -1,7 +1,17 @@
 package hr.terraforming.mars.terraformingmars.model;
 
 import java.io.Serializable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
 
 public record GameState(GameManager gameManager, GameBoard gameBoard) implements Serializable {
 
-}
\ No newline at end of file
+    public GameState copy() {
+        Map<Player, Player> copies = new IdentityHashMap<>();
+        UnaryOperator<Player> playerCopies = player -> player != null ? copies.computeIfAbsent(player, Player::copy) : null;
+
+        GameBoard boardCopy = gameBoard.copy(playerCopies);
+        return new GameState(gameManager.copy(playerCopies, boardCopy), boardCopy);
+    }
+}
@@ -37,6 +37,22 @@ public class Player implements Serializable {
         this.state = new PlayerState();
     }
 
+    private Player(Player source, PlayerState state) {
+        this.name = source.name;
+        this.playerNumber = source.playerNumber;
+        this.corporation = source.corporation;
+        this.board = source.board;
+        this.state = state;
+    }
+
+    public Player copy() {
+        return new Player(this, state.copy());
+    }
+
+    public Player withHiddenHand() {
+        return new Player(this, state.withHiddenHand());
+    }
+
     public Color getPlayerColor() {
         return PLAYER_COLORS.get((playerNumber - 1) % PLAYER_COLORS.size());
     }
@@ -48,10 +64,15 @@ public class Player implements Serializable {
         corporation.startingProduction().forEach(this::increaseProduction);
     }
 
+    public void restoreCorporation(Corporation corporation) {
+        this.corporation = corporation;
+    }
+
     public IntegerProperty mcProperty() { return state.mcProperty(); }
     public IntegerProperty trProperty() { return state.trProperty(); }
     public IntegerProperty resourceProperty(ResourceType type) { return state.resourceProperty(type); }
     public IntegerProperty productionProperty(ResourceType type) { return state.productionProperty(type); }
+    public IntegerProperty tilePointsProperty() { return state.tilePointsProperty(); }
 
     public int getMC() { return state.mcProperty().get(); }
     public int getTR() { return state.trProperty().get(); }
@@ -59,6 +80,11 @@ public class Player implements Serializable {
     public Map<ResourceType, IntegerProperty> getProductionMap() { return state.getProductionMap(); }
     public List<Card> getHand() { return state.getHand(); }
     public List<Card> getPlayed() { return state.getPlayed(); }
+    public int getHandSize() { return state.getHandSize(); }
+    public boolean isHandHidden() { return state.isHandHidden(); }
+
+    public void hideHand(int handSize) { state.hideHand(handSize); }
+    public void revealHand(List<Card> cards) { state.revealHand(cards); }
 
     public void addCardsToHand(List<Card> cardsToAdd) { getHand().addAll(cardsToAdd); }
 
@@ -146,6 +172,8 @@ public class Player implements Serializable {
 
     public void addClaimedMilestone(Milestone milestone) { state.getClaimedMilestones().add(milestone); }
 
+    public List<Milestone> getClaimedMilestones() { return state.getClaimedMilestones(); }
+
     public int getMilestonePoints() { return state.getClaimedMilestones().size() * 5; }
 
     public long getOwnedCityCount() {
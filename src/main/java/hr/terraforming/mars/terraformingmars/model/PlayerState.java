@@ -15,6 +15,7 @@ public class PlayerState implements Serializable {
     private int mcValue;
     private int trValue;
     private int tilePointsValue;
+    private int hiddenHandSize;
     private final Map<ResourceType, Integer> resourceValues = new EnumMap<>(ResourceType.class);
     private final Map<ResourceType, Integer> productionValues = new EnumMap<>(ResourceType.class);
 
@@ -74,6 +75,46 @@ public class PlayerState implements Serializable {
     public IntegerProperty resourceProperty(ResourceType type) { return resources.get(type); }
     public IntegerProperty productionProperty(ResourceType type) { return production.get(type); }
 
+    public int getHandSize() {
+        return hand.size() + hiddenHandSize;
+    }
+
+    public boolean isHandHidden() {
+        return hiddenHandSize > 0;
+    }
+
+    public void hideHand(int handSize) {
+        hand.clear();
+        hiddenHandSize = handSize;
+    }
+
+    public void revealHand(List<Card> cards) {
+        hand.clear();
+        hand.addAll(cards);
+        hiddenHandSize = 0;
+    }
+
+    public PlayerState copy() {
+        PlayerState copy = new PlayerState();
+        copy.tr.set(tr.get());
+        copy.mc.set(mc.get());
+        copy.tilePoints.set(tilePoints.get());
+        resources.forEach((type, value) -> copy.resources.get(type).set(value.get()));
+        production.forEach((type, value) -> copy.production.get(type).set(value.get()));
+
+        copy.claimedMilestones.addAll(claimedMilestones);
+        copy.hand.addAll(hand);
+        copy.played.addAll(played);
+        copy.hiddenHandSize = hiddenHandSize;
+        return copy;
+    }
+
+    public PlayerState withHiddenHand() {
+        PlayerState copy = copy();
+        copy.hideHand(getHandSize());
+        return copy;
+    }
+
     public Map<ResourceType, IntegerProperty> getProductionMap() {
         return Collections.unmodifiableMap(production);
     }
@@ -122,6 +163,7 @@ public class PlayerState implements Serializable {
         }
 
         hand.clear();
+        hiddenHandSize = 0;
         played.clear();
         claimedMilestones.clear();
     }
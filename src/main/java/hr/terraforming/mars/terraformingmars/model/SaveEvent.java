@@ -0,0 +1,30 @@
+package hr.terraforming.mars.terraformingmars.model;
+
+import java.nio.file.Path;
+
+public record SaveEvent(Stage stage, Path path, long bytesWritten, long totalBytes, Exception error) {
+
+    public enum Stage {
+        CAPTURED, WRITING, COMPLETED, FAILED
+    }
+
+    public static SaveEvent captured(Path path, long totalBytes) {
+        return new SaveEvent(Stage.CAPTURED, path, 0, totalBytes, null);
+    }
+
+    public static SaveEvent writing(Path path, long bytesWritten, long totalBytes) {
+        return new SaveEvent(Stage.WRITING, path, bytesWritten, totalBytes, null);
+    }
+
+    public static SaveEvent completed(Path path, long totalBytes) {
+        return new SaveEvent(Stage.COMPLETED, path, totalBytes, totalBytes, null);
+    }
+
+    public static SaveEvent failed(Path path, Exception error) {
+        return new SaveEvent(Stage.FAILED, path, 0, 0, error);
+    }
+
+    public double progress() {
+        return totalBytes > 0 ? (double) bytesWritten / totalBytes : 0;
+    }
+}
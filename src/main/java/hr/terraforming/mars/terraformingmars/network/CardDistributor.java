@@ -5,6 +5,7 @@ import hr.terraforming.mars.terraformingmars.manager.ActionManager;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.message.CorporationOfferMessage;
 import hr.terraforming.mars.terraformingmars.network.message.CardOfferMessage;
+import hr.terraforming.mars.terraformingmars.service.MoveRulesService;
 import hr.terraforming.mars.terraformingmars.util.ScreenUtils;
 import hr.terraforming.mars.terraformingmars.view.ScreenNavigator;
 import javafx.application.Platform;
@@ -18,7 +19,6 @@ public record CardDistributor(GameManager gameManager, GameServerThread serverTh
     private static final int INITIAL_CORPORATION_COUNT = 2;
     private static final int INITIAL_CARD_COUNT = 6;
     private static final int RESEARCH_CARD_COUNT = 4;
-    private static final int CARD_COST = 3;
 
     public void distributeInitialCorporations() {
         log.debug("Host distributing corporations to all players.");
@@ -60,7 +60,10 @@ public record CardDistributor(GameManager gameManager, GameServerThread serverTh
 
             if (offer.isEmpty()) {
                 if (actionManager != null && actionManager.getGameFlowManager() != null) {
-                    Platform.runLater(() -> actionManager.getGameFlowManager().finishResearchPhase());
+                    serverThread.getGameLoop().submit(() -> actionManager.getGameFlowManager().finishResearchPhase());
+                } else {
+                    log.debug("No research cards left for {}", player.getName());
+                    gameManager.hasMoreDraftPlayers();
                 }
                 continue;
             }
@@ -80,26 +83,19 @@ public record CardDistributor(GameManager gameManager, GameServerThread serverTh
     private void handleHostConfirmation(Player player, List<Card> boughtCards) {
         log.debug("Host confirming research cards. Count: {}", boughtCards.size());
 
-        int cost = boughtCards.size() * CARD_COST;
+        MoveRulesService.buyResearchCards(player, boughtCards);
 
-        if (player.getMC() >= cost) {
-            player.canSpendMC(cost);
-            player.getHand().addAll(boughtCards);
-        }
-
-        synchronized (gameManager) {
-            boolean morePlayersToChoose = gameManager.hasMoreDraftPlayers();
+        boolean morePlayersToChoose = gameManager.hasMoreDraftPlayers();
 
-            if (!morePlayersToChoose) {
-                log.info("Host finished last. Triggering next phase (ACTIONS).");
-                if (actionManager != null && actionManager.getGameFlowManager() != null) {
-                    actionManager.getGameFlowManager().finishResearchPhase();
-                }
+        if (!morePlayersToChoose) {
+            log.info("Host finished last. Triggering next phase (ACTIONS).");
+            if (actionManager != null && actionManager.getGameFlowManager() != null) {
+                actionManager.getGameFlowManager().finishResearchPhase();
             }
         }
     }
 
     private boolean isCurrentPlayer(Player player) {
-        return player.getName().equals(ApplicationConfiguration.getInstance().getMyPlayerName());
+        return serverThread.isLocalPlayer(player.getName());
     }
 }
\ No newline at end of file
@@ -1,144 +1,348 @@
 package hr.terraforming.mars.terraformingmars.network;
 
-import hr.terraforming.mars.terraformingmars.exception.NetworkException;
 import hr.terraforming.mars.terraformingmars.manager.ActionManager;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.message.CardChoiceMessage;
 import hr.terraforming.mars.terraformingmars.network.message.CorporationChoiceMessage;
+import hr.terraforming.mars.terraformingmars.network.message.JoinRejectedMessage;
+import hr.terraforming.mars.terraformingmars.network.message.JoinRoomMessage;
+import hr.terraforming.mars.terraformingmars.network.message.MoveAckMessage;
+import hr.terraforming.mars.terraformingmars.network.message.PingMessage;
 import hr.terraforming.mars.terraformingmars.network.message.PlayerNameMessage;
+import hr.terraforming.mars.terraformingmars.network.message.PongMessage;
+import hr.terraforming.mars.terraformingmars.network.message.ResumeSessionMessage;
+import hr.terraforming.mars.terraformingmars.network.message.SessionTokenMessage;
+import hr.terraforming.mars.terraformingmars.network.message.StateAckMessage;
+import hr.terraforming.mars.terraformingmars.network.metrics.ConnectionMetrics;
+import hr.terraforming.mars.terraformingmars.network.session.PlayerSession;
+import hr.terraforming.mars.terraformingmars.network.session.ReplayBuffer;
+import hr.terraforming.mars.terraformingmars.network.session.SessionRegistry;
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateSnapshot;
+import hr.terraforming.mars.terraformingmars.network.sync.StateHistory;
+import hr.terraforming.mars.terraformingmars.network.sync.StateProjection;
+import hr.terraforming.mars.terraformingmars.network.transport.ConnectionListener;
+import hr.terraforming.mars.terraformingmars.network.transport.FrameCodec;
+import hr.terraforming.mars.terraformingmars.network.transport.HeartbeatSettings;
+import hr.terraforming.mars.terraformingmars.network.transport.LagPolicy;
+import hr.terraforming.mars.terraformingmars.network.transport.NioConnection;
+import hr.terraforming.mars.terraformingmars.network.transport.OutboundLimits;
+import hr.terraforming.mars.terraformingmars.network.transport.SharedFrame;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.net.Socket;
-import java.util.concurrent.CompletableFuture;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
 
 @Slf4j
-public class ClientHandler implements Runnable {
-    private final Socket socket;
+public class ClientHandler implements ConnectionListener {
+    private final NioConnection connection;
     private final GameManager gameManager;
+    private final Runnable broadcaster;
+    private final Consumer<ClientHandler> onDisconnected;
+    private final SessionRegistry sessions;
+    private final GameLoop gameLoop;
+    private final LongSupplier nextStateVersion;
 
-    private ObjectOutputStream clientOutput;
-    private ObjectInputStream clientInput;
-    private volatile boolean isClientReady = false;
-    private volatile boolean isServerRunning = true;
     @Getter
-    private String playerName;
+    private volatile String playerName;
+    private volatile PlayerSession session;
     private ServerMessageHandler messageHandler;
-    private final CompletableFuture<Void> readyFuture = new CompletableFuture<>();
+    private ActionManager actionManager;
+    private Consumer<GameMove> headlessMoveProcessor;
+    private final AtomicReference<StateBroadcast> pendingState = new AtomicReference<>();
+    private final Queue<MoveAckMessage> pendingAcks = new ConcurrentLinkedQueue<>();
+    private volatile long lastSentVersion = StateHistory.NO_VERSION;
+    private long receivedMoves;
+    @Getter
+    private volatile long acknowledgedVersion = StateHistory.NO_VERSION;
+    private final ConnectionMetrics metrics = new ConnectionMetrics();
 
-    public ClientHandler(Socket socket, GameManager gameManager, ActionManager actionManager) {
-        this.socket = socket;
+    public ClientHandler(NioConnection connection, GameManager gameManager, ActionManager actionManager,
+                         Runnable broadcaster, Consumer<ClientHandler> onDisconnected, SessionRegistry sessions,
+                         GameLoop gameLoop, LongSupplier nextStateVersion) {
+        this.connection = connection;
         this.gameManager = gameManager;
+        this.broadcaster = broadcaster;
+        this.onDisconnected = onDisconnected;
+        this.sessions = sessions;
+        this.gameLoop = gameLoop;
+        this.nextStateVersion = nextStateVersion;
         setActionManager(actionManager);
     }
 
     public void setActionManager(ActionManager actionManager) {
+        this.actionManager = actionManager;
+        rebuildMessageHandler();
+    }
+
+    public void setHeadlessMoveProcessor(Consumer<GameMove> headlessMoveProcessor) {
+        this.headlessMoveProcessor = headlessMoveProcessor;
+        rebuildMessageHandler();
+    }
+
+    private void rebuildMessageHandler() {
        messageHandler = new ServerMessageHandler(
                 gameManager,
                 actionManager,
-                this::broadcastIfAvailable
+                broadcaster,
+                gameLoop,
+                headlessMoveProcessor
         );
     }
 
     @Override
-    public void run() {
-        try (ObjectOutputStream outputStream = new ObjectOutputStream(socket.getOutputStream());
-             ObjectInputStream inputStream = new ObjectInputStream(socket.getInputStream())) {
+    public void onMessage(NioConnection source, Object message) {
+        long receivedAt = System.nanoTime();
+        handleMessage(message);
 
-            clientOutput = outputStream;
-            clientInput = inputStream;
-            isClientReady = true;
-            readyFuture.complete(null);
-
-            while (isServerRunning && !socket.isClosed()) {
-                Object obj = inputStream.readObject();
-                handleMessage(obj);
-            }
+        if (message instanceof GameMove) {
+            gameLoop.submit(() -> metrics.recordProcessing(System.nanoTime() - receivedAt));
+        } else if (!(message instanceof PongMessage)) {
+            metrics.recordProcessing(System.nanoTime() - receivedAt);
+        }
+    }
 
-        } catch (IOException | ClassNotFoundException e) {
-            if (isServerRunning) {
-                throw new NetworkException("Client handler connection error", e);
-            } else {
-                log.info("Client disconnected");
-            }
-        } finally {
-            cleanup();
+    @Override
+    public void onClose(NioConnection source) {
+        log.info("Client {} disconnected, {}", playerName != null ? playerName : source.getRemoteAddress(), metrics);
+        if (session != null) {
+            session.detach(this);
         }
+        onDisconnected.accept(this);
     }
 
     private void handleMessage(Object obj) {
         switch (obj) {
-            case PlayerNameMessage msg -> playerName = messageHandler.handlePlayerName(msg);
+            case PlayerNameMessage msg -> handlePlayerName(msg);
+            case ResumeSessionMessage msg -> handleResume(msg);
             case CorporationChoiceMessage msg -> messageHandler.handleCorporationChoice(playerName, msg);
             case CardChoiceMessage msg -> messageHandler.handleCardChoice(playerName, msg);
-            case GameMove move -> messageHandler.handleGameMove(move);
+            case GameMove move -> handleGameMove(move);
+            case StateAckMessage msg -> handleStateAck(msg);
+            case PongMessage msg -> metrics.recordRoundTrip(System.nanoTime() - msg.timestamp());
+            case JoinRoomMessage msg -> log.debug("Ignoring room join {} on an already attached connection", msg.roomId());
             default -> log.warn("Unknown message type: {}", obj.getClass());
         }
     }
 
-    private void broadcastIfAvailable() {
-        NetworkBroadcaster broadcaster = ApplicationConfiguration.getInstance().getBroadcaster();
+    private void handlePlayerName(PlayerNameMessage msg) {
+        Optional<PlayerSession> seat = sessions.open(msg.playerName());
+        if (seat.isEmpty()) {
+            log.warn("Rejecting {} from {}: lobby is full", msg.playerName(), connection.getRemoteAddress());
+            connection.send(new JoinRejectedMessage(null, "Lobby is full"));
+            connection.close();
+            return;
+        }
+
+        playerName = messageHandler.handlePlayerName(msg);
+
+        PlayerSession opened = seat.get();
+        opened.attach(this);
+        session = opened;
+        send(new SharedFrame(new SessionTokenMessage(opened.getToken())));
+    }
+
+    private void handleResume(ResumeSessionMessage msg) {
+        Optional<PlayerSession> found = sessions.find(msg.token());
+        if (found.isEmpty()) {
+            log.warn("Rejecting resume from {}: unknown session", connection.getRemoteAddress());
+            connection.send(new JoinRejectedMessage(null, "Unknown or expired session"));
+            connection.close();
+            return;
+        }
+
+        PlayerSession resumed = found.get();
+        ClientHandler previous = resumed.attach(this);
+        if (previous != null && previous != this) {
+            previous.close();
+        }
+
+        playerName = resumed.getPlayerName();
+        session = resumed;
+
+        ReplayBuffer replayBuffer = resumed.getReplayBuffer();
+        if (!replayBuffer.covers(msg.lastSequence())) {
+            log.warn("Replay buffer for {} no longer reaches sequence {}, some messages are lost",
+                    playerName, msg.lastSequence());
+        }
+
+        List<ReplayBuffer.Entry> missed = replayBuffer.since(msg.lastSequence());
+        log.info("{} resumed after sequence {}, replaying {} messages", playerName, msg.lastSequence(), missed.size());
+
+        connection.execute(() -> missed.forEach(entry -> writeSequenced(entry.frame(), entry.sequence())));
+        requestFullSnapshot();
+        broadcaster.run();
+    }
+
+    private void handleGameMove(GameMove move) {
+        long sequence = ++receivedMoves;
+        messageHandler.handleGameMove(move, () -> acknowledgeMove(sequence));
+    }
+
+    private void acknowledgeMove(long sequence) {
+        if (!connection.isOpen()) return;
 
-        if (broadcaster != null) {
-            broadcaster.broadcast();
+        pendingAcks.add(new MoveAckMessage(sequence, nextStateVersion.getAsLong()));
+        connection.execute(this::writeMoveAcks);
+    }
+
+    private void writeMoveAcks() {
+        MoveAckMessage ack;
+        while ((ack = pendingAcks.poll()) != null) {
+            deliver(new SharedFrame(ack), false);
         }
     }
 
-    public boolean waitUntilReady(long timeoutMillis) {
-        try {
-            readyFuture.get(timeoutMillis, java.util.concurrent.TimeUnit.MILLISECONDS);
-            return true;
-        } catch (Exception _) {
-            Thread.currentThread().interrupt();
-            return false;
+    private void handleStateAck(StateAckMessage msg) {
+        if (msg.version() == StateHistory.NO_VERSION) {
+            log.info("{} requested a full state resync", playerName);
+            requestFullSnapshot();
+            broadcaster.run();
+        } else {
+            acknowledgedVersion = msg.version();
+            writePendingStateIfIdle();
         }
     }
 
-    public synchronized void sendGameState(GameState state) {
-        log.debug("Sending GameState to {}", playerName);
+    private void requestFullSnapshot() {
+        lastSentVersion = StateHistory.NO_VERSION;
+        acknowledgedVersion = StateHistory.NO_VERSION;
+    }
 
-        if (!isClientReady) { return; }
+    void sendGameState(StateBroadcast broadcast) {
+        if (!connection.isOpen()) { return; }
 
-        try {
-            clientOutput.writeObject(state);
-            clientOutput.reset();
-            clientOutput.flush();
-        } catch (IOException e) {
-            cleanup();
-            throw new NetworkException("Failed to send GameState to " + playerName, e);
+        if (broadcast.history().get(lastSentVersion).isEmpty()) {
+            broadcast.captureState();
+        }
+
+        StateBroadcast previous = pendingState.getAndSet(broadcast);
+        if (previous == null) {
+            connection.execute(this::writePendingStateIfIdle);
+        } else {
+            log.trace("Coalesced state v{} into v{} for {}", previous.version(), broadcast.version(), playerName);
         }
     }
 
-    public synchronized void sendObject(Object message) {
-        if (!isClientReady) return;
+    private StateProjection view() {
+        return new StateProjection(playerName);
+    }
 
-        try {
-            clientOutput.writeObject(message);
-            clientOutput.reset();
-            clientOutput.flush();
-            log.debug("Sent object of type {} to {}", message.getClass().getSimpleName(), playerName);
-        } catch (IOException e) {
-            cleanup();
-            throw new NetworkException("Failed to send " + message.getClass().getSimpleName() + " to " + playerName, e);
+    @Override
+    public void onDrained(NioConnection source) {
+        writePendingState();
+    }
+
+    private void writePendingStateIfIdle() {
+        if (connection.getQueuedFrames() == 0) {
+            writePendingState();
         }
     }
 
-    public void close() {
-        cleanup();
+    private void writePendingState() {
+        writeMoveAcks();
+
+        StateBroadcast broadcast = pendingState.get();
+        if (broadcast == null || isTooFarBehind(broadcast.version())) {
+            return;
+        }
+        pendingState.compareAndSet(broadcast, null);
+
+        Optional<GameStateSnapshot> base = broadcast.history().get(lastSentVersion);
+
+        if (base.isPresent()) {
+            log.debug("Sending state delta v{} -> v{} to {}", lastSentVersion, broadcast.version(), playerName);
+            deliver(broadcast.deltaFrom(base.get(), view()), false);
+        } else if (broadcast.isStateCaptured()) {
+            log.debug("Sending full state snapshot v{} to {}", broadcast.version(), playerName);
+            deliver(broadcast.snapshotFrame(view()), false);
+        } else {
+            log.debug("Base v{} for {} is no longer available, requesting a fresh snapshot", lastSentVersion, playerName);
+            requestFullSnapshot();
+            broadcaster.run();
+            return;
+        }
+
+        lastSentVersion = broadcast.version();
+    }
+
+    private boolean isTooFarBehind(long version) {
+        OutboundLimits limits = connection.getLimits();
+        if (acknowledgedVersion == StateHistory.NO_VERSION
+                || lastSentVersion - acknowledgedVersion <= limits.maxStateLag()) {
+            return false;
+        }
+
+        if (limits.lagPolicy() == LagPolicy.DISCONNECT) {
+            log.warn("{} is {} states behind, disconnecting", playerName, version - acknowledgedVersion);
+            connection.close();
+        }
+        return true;
+    }
+
+    public void sendObject(Object message) {
+        send(new SharedFrame(message));
+    }
+
+    void send(SharedFrame frame) {
+        if (!connection.isOpen()) return;
+
+        connection.execute(() -> {
+            writePendingState();
+            deliver(frame, true);
+        });
+        log.debug("Queued object of type {} for {}", frame.getMessage().getClass().getSimpleName(), playerName);
+    }
+
+    private void deliver(SharedFrame frame, boolean replayable) {
+        PlayerSession current = session;
+        if (current == null) {
+            connection.send(frame);
+            return;
+        }
+
+        writeSequenced(frame, replayable ? current.retain(frame) : current.nextSequence());
     }
 
-    private void cleanup() {
-        isServerRunning = false;
-        isClientReady = false;
+    private void writeSequenced(SharedFrame frame, long sequence) {
         try {
-            if (clientInput != null) clientInput.close();
-            if (clientOutput != null) clientOutput.close();
-            if (socket != null && !socket.isClosed()) socket.close();
+            connection.sendFrame(FrameCodec.sequenced(frame.frameFor(connection.getCodec()), sequence));
         } catch (IOException e) {
-            throw new NetworkException("Error closing client resources for " + playerName, e);
+            log.error("Failed to encode {} for {}", frame.getMessage().getClass().getSimpleName(), playerName, e);
         }
     }
+
+    void expireHandshake() {
+        if (playerName == null && connection.isOpen()) {
+            log.warn("Connection {} did not register a player within the handshake timeout, closing",
+                    connection.getRemoteAddress());
+            connection.close();
+        }
+    }
+
+    void heartbeat(HeartbeatSettings settings) {
+        if (!connection.isOpen()) {
+            return;
+        }
+
+        long idleMillis = connection.getIdleMillis();
+        if (idleMillis > settings.idleTimeoutMillis()) {
+            log.warn("No traffic from {} for {} ms, closing connection", playerName, idleMillis);
+            connection.close();
+            return;
+        }
+
+        connection.send(new PingMessage(System.nanoTime()));
+    }
+
+    public void close() {
+        connection.close();
+    }
+
 }
@@ -9,6 +9,8 @@ import hr.terraforming.mars.terraformingmars.factory.CorporationFactory;
 import hr.terraforming.mars.terraformingmars.manager.GameFlowManager;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.message.*;
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateDelta;
+import hr.terraforming.mars.terraformingmars.network.sync.StateHistory;
 import hr.terraforming.mars.terraformingmars.util.ScreenUtils;
 import hr.terraforming.mars.terraformingmars.view.ScreenNavigator;
 import javafx.application.Platform;
@@ -18,12 +20,21 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
-public record ClientMessageDispatcher(GameClientThread client, List<GameStateListener> listeners) {
+public record ClientMessageDispatcher(GameClientThread client, List<GameStateListener> listeners,
+                                      StateMailbox mailbox) {
+
+    public ClientMessageDispatcher(GameClientThread client, List<GameStateListener> listeners) {
+        this(client, listeners, new StateMailbox(state -> notifyListeners(listeners, state), client::requestResync));
+    }
 
     public void dispatch(Object message, GameState lastGameState) {
         if (message instanceof GameState state) {
-            handleGameState(state);
-        } else if (message instanceof CorporationOfferMessage msg) {
+            mailbox.offerSnapshot(state, StateHistory.NO_VERSION);
+            return;
+        }
+
+        mailbox.seal();
+        if (message instanceof CorporationOfferMessage msg) {
             handleCorporationOffer(msg, lastGameState);
         } else if (message instanceof CardOfferMessage msg) {
             handleCardOffer(msg, lastGameState);
@@ -36,14 +47,32 @@ public record ClientMessageDispatcher(GameClientThread client, List<GameStateLis
         }
     }
 
-    private void handleGameState(GameState state) {
-        Platform.runLater(() -> {
-            synchronized (listeners) {
-                for (GameStateListener listener : listeners) {
-                    listener.onGameStateReceived(state);
-                }
+    public void dispatchSnapshot(GameState state, long version) {
+        mailbox.offerSnapshot(state, version);
+    }
+
+    public void dispatchDelta(GameStateDelta delta, GameState state) {
+        mailbox.offerDelta(delta, state);
+    }
+
+    public void dispatchMoveAck(MoveAckMessage msg) {
+        mailbox.offerMoveAck(msg.sequence(), msg.stateVersion());
+    }
+
+    public void trackMove(long sequence, GameMove move) {
+        mailbox.predictor().track(sequence, move);
+    }
+
+    public void resetPredictions() {
+        mailbox.predictor().reset();
+    }
+
+    private static void notifyListeners(List<GameStateListener> listeners, GameState state) {
+        synchronized (listeners) {
+            for (GameStateListener listener : listeners) {
+                listener.onGameStateReceived(state);
             }
-        });
+        }
     }
 
     private void handleCorporationOffer(CorporationOfferMessage msg, GameState lastGameState) {
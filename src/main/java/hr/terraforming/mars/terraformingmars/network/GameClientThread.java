@@ -3,62 +3,212 @@ package hr.terraforming.mars.terraformingmars.network;
 import hr.terraforming.mars.terraformingmars.exception.NetworkException;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.message.*;
+import hr.terraforming.mars.terraformingmars.network.codec.BinaryMessageCodec;
+import hr.terraforming.mars.terraformingmars.network.codec.CompressionStats;
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateDelta;
+import hr.terraforming.mars.terraformingmars.network.sync.StateHistory;
+import hr.terraforming.mars.terraformingmars.network.transport.FrameCodec;
+import hr.terraforming.mars.terraformingmars.network.transport.HeartbeatSettings;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.EOFException;
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.*;
 import java.net.Socket;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 public class GameClientThread implements Runnable {
+    private static final int MAX_RECONNECT_ATTEMPTS = 5;
+    private static final long RECONNECT_BASE_DELAY_MS = 500;
+
     private final String hostname;
     private final int port;
+    private final String roomId;
     private Socket clientSocket;
-    private ObjectOutputStream serverOutput;
+    private DataOutputStream serverOutput;
     private final List<GameStateListener> listeners = new ArrayList<>();
     private volatile boolean running = true;
     private GameState lastGameState;
+    private volatile long lastStateVersion = StateHistory.NO_VERSION;
+    private final AtomicLong sentMoves = new AtomicLong();
+    private volatile BinaryMessageCodec codec;
+    private volatile String sessionToken;
+    private long lastSequence = 0;
+    private int reconnectAttempts = 0;
+    private volatile boolean resumable = true;
     private final ClientMessageDispatcher messageDispatcher;
 
     public GameClientThread(String hostname, int port) {
+        this(hostname, port, null);
+    }
+
+    public GameClientThread(String hostname, int port, String roomId) {
         this.hostname = hostname;
         this.port = port;
+        this.roomId = roomId;
         this.messageDispatcher = new ClientMessageDispatcher(this, listeners);
     }
 
     @Override
     public void run() {
+        while (running) {
+            try {
+                connectAndServe();
+                return;
+            } catch (EOFException e) {
+                if (!scheduleReconnect(e)) {
+                    log.info("Server closed connection");
+                    return;
+                }
+            } catch (IOException e) {
+                if (!scheduleReconnect(e)) {
+                    handleConnectionError(e);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void connectAndServe() throws IOException {
         try (Socket socket = new Socket(hostname, port);
-             ObjectOutputStream outputStream = new ObjectOutputStream(socket.getOutputStream());
-             ObjectInputStream inputStream = new ObjectInputStream(socket.getInputStream())) {
+             DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+             DataInputStream inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
 
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(HeartbeatSettings.fromConfiguration().idleTimeoutMillis());
             this.clientSocket = socket;
             this.serverOutput = outputStream;
+            this.codec = null;
+            sentMoves.set(0);
+            messageDispatcher.resetPredictions();
 
             log.info("Connected to server at {}:{}", hostname, port);
 
+            sendMessage(BinaryMessageCodec.localHello(), null);
+
+            if (roomId != null && !roomId.isBlank()) {
+                sendMessage(new JoinRoomMessage(roomId.trim().toUpperCase()),
+                        () -> log.debug("Requested to join room {}", roomId));
+            }
+
+            if (sessionToken != null) {
+                sendMessage(new ResumeSessionMessage(sessionToken, lastSequence),
+                        () -> log.info("Resuming session after sequence {}", lastSequence));
+            }
+
             while (running) {
-                Object receivedMessage = inputStream.readObject();
-                processMessage(receivedMessage);
+                Object receivedMessage = FrameCodec.readMessage(inputStream, codec);
+
+                if (receivedMessage instanceof FrameCodec.Sequenced(long sequence, Object message)) {
+                    reconnectAttempts = 0;
+                    if (sequence <= lastSequence) {
+                        log.debug("Skipping already processed message #{}", sequence);
+                        continue;
+                    }
+                    lastSequence = sequence;
+                    processMessage(message);
+                } else {
+                    processMessage(receivedMessage);
+                }
             }
+        }
+    }
+
+    private boolean scheduleReconnect(IOException cause) {
+        if (!running || !resumable || sessionToken == null || reconnectAttempts >= MAX_RECONNECT_ATTEMPTS) {
+            return false;
+        }
 
-        } catch (EOFException _) {
-            log.info("Server closed connection");
-        } catch (IOException | ClassNotFoundException e) {
-            handleConnectionError(e);
+        long delay = RECONNECT_BASE_DELAY_MS << reconnectAttempts++;
+        log.warn("Connection to {}:{} lost ({}), reconnecting in {} ms (attempt {}/{})",
+                hostname, port, cause.getMessage(), delay, reconnectAttempts, MAX_RECONNECT_ATTEMPTS);
+
+        try {
+            Thread.sleep(delay);
+            return running;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return false;
         }
     }
 
     private void processMessage(Object message) {
-        if (message instanceof GameState state) {
-            lastGameState = state;
+        switch (message) {
+            case ProtocolHelloMessage msg -> handleProtocolHello(msg);
+            case PingMessage msg -> sendMessage(new PongMessage(msg.timestamp()), null);
+            case StateSnapshotMessage msg -> handleStateSnapshot(msg);
+            case StateDeltaMessage msg -> handleStateDelta(msg.delta());
+            case MoveAckMessage msg -> messageDispatcher.dispatchMoveAck(msg);
+            case JoinRejectedMessage msg -> {
+                log.warn("Host rejected join to room {}: {}", msg.roomId(), msg.reason());
+                running = false;
+            }
+            case SessionTokenMessage msg -> {
+                sessionToken = msg.token();
+                log.debug("Received session token for reconnects");
+            }
+            case GameOverMessage msg -> {
+                resumable = false;
+                messageDispatcher.dispatch(msg, lastGameState);
+            }
+            case GameState state -> {
+                lastGameState = state;
+                messageDispatcher.dispatch(state, lastGameState);
+            }
+            default -> messageDispatcher.dispatch(message, lastGameState);
+        }
+    }
+
+    private void handleProtocolHello(ProtocolHelloMessage msg) {
+        codec = BinaryMessageCodec.negotiate(msg).orElse(null);
+        log.info("Negotiated wire protocol v{} with server (catalog ids: {}, compression: {})",
+                codec != null ? codec.getVersion() : BinaryMessageCodec.JAVA_SERIALIZATION,
+                codec != null && codec.usesCatalog(),
+                codec != null && codec.usesCompression());
+    }
+
+    public CompressionStats getCompressionStats() {
+        BinaryMessageCodec current = codec;
+        return current != null && current.usesCompression() ? current.getCompressionStats() : null;
+    }
+
+    private void handleStateSnapshot(StateSnapshotMessage msg) {
+        lastGameState = msg.state();
+        lastStateVersion = msg.version();
+        log.debug("Received full state snapshot v{}", msg.version());
+
+        messageDispatcher.dispatchSnapshot(msg.state(), msg.version());
+        acknowledgeState(lastStateVersion);
+    }
+
+    private void handleStateDelta(GameStateDelta delta) {
+        if (lastStateVersion == StateHistory.NO_VERSION) {
+            log.debug("Ignoring state delta v{} while waiting for a snapshot", delta.version());
+            return;
         }
 
-        messageDispatcher.dispatch(message, lastGameState);
+        if (lastGameState == null || delta.baseVersion() != lastStateVersion) {
+            log.warn("State gap detected (have v{}, delta based on v{}), requesting resync",
+                    lastStateVersion, delta.baseVersion());
+            lastStateVersion = StateHistory.NO_VERSION;
+            acknowledgeState(StateHistory.NO_VERSION);
+            return;
+        }
+
+        lastStateVersion = delta.version();
+        messageDispatcher.dispatchDelta(delta, lastGameState);
+        acknowledgeState(lastStateVersion);
+    }
+
+    void requestResync() {
+        log.info("Requesting a full state snapshot from the host");
+        lastStateVersion = StateHistory.NO_VERSION;
+        acknowledgeState(StateHistory.NO_VERSION);
+    }
+
+    private void acknowledgeState(long version) {
+        sendMessage(new StateAckMessage(version), null);
     }
 
     private void handleConnectionError(Exception e) {
@@ -97,14 +247,13 @@ public class GameClientThread implements Runnable {
     }
 
     public void sendMove(GameMove move) {
-        sendMessage(move, null);
+        sendMessage(move, () -> messageDispatcher.trackMove(sentMoves.incrementAndGet(), move));
     }
 
     private synchronized void sendMessage(Object message, Runnable onSuccess) {
         try {
             if (serverOutput != null) {
-                serverOutput.writeObject(message);
-                serverOutput.flush();
+                FrameCodec.writeMessage(serverOutput, message, codec);
                 if (onSuccess != null) {
                     onSuccess.run();
                 }
@@ -120,6 +269,11 @@ public class GameClientThread implements Runnable {
         log.info("GameClientThread shutting down");
         running = false;
 
+        CompressionStats stats = getCompressionStats();
+        if (stats != null) {
+            log.info("Compression stats: {}", stats);
+        }
+
         closeSocket();
         clearState();
     }
@@ -140,6 +294,10 @@ public class GameClientThread implements Runnable {
         }
 
         lastGameState = null;
+        lastStateVersion = StateHistory.NO_VERSION;
         serverOutput = null;
+        codec = null;
+        sessionToken = null;
+        lastSequence = 0;
     }
 }
@@ -0,0 +1,98 @@
+package hr.terraforming.mars.terraformingmars.network;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Slf4j
+public class GameLoop {
+
+    private final String name;
+    private final BlockingQueue<Runnable> commands = new LinkedBlockingQueue<>();
+    private final AtomicLong processedCommands = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public GameLoop(String name) {
+        this.name = name;
+        this.thread = Thread.ofPlatform().name(name).daemon().unstarted(this::run);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    public boolean inLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    public void submit(Runnable command) {
+        if (!running) {
+            log.debug("Game loop {} is stopped, dropping command", name);
+            return;
+        }
+
+        commands.add(command);
+    }
+
+    public void execute(Runnable command) {
+        if (inLoop()) {
+            command.run();
+        } else {
+            submit(command);
+        }
+    }
+
+    public <T> CompletableFuture<T> call(Supplier<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        execute(() -> {
+            try {
+                result.complete(command.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    public void shutdown() {
+        running = false;
+        commands.clear();
+        thread.interrupt();
+    }
+
+    private void run() {
+        log.info("Game loop {} started", name);
+
+        while (running) {
+            Runnable command;
+            try {
+                command = commands.take();
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            runCommand(command);
+        }
+
+        log.info("Game loop {} stopped after {} commands", name, processedCommands.get());
+    }
+
+    private void runCommand(Runnable command) {
+        if (!running) {
+            return;
+        }
+
+        try {
+            command.run();
+        } catch (RuntimeException e) {
+            log.error("Game loop {} command failed", name, e);
+        }
+        processedCommands.incrementAndGet();
+    }
+}
@@ -1,42 +1,82 @@
 package hr.terraforming.mars.terraformingmars.network;
 
 import hr.terraforming.mars.terraformingmars.exception.ConfigurationException;
-import hr.terraforming.mars.terraformingmars.exception.NetworkException;
 import hr.terraforming.mars.terraformingmars.jndi.ConfigurationKey;
 import hr.terraforming.mars.terraformingmars.jndi.ConfigurationReader;
 import hr.terraforming.mars.terraformingmars.manager.ActionManager;
 import hr.terraforming.mars.terraformingmars.model.*;
+import hr.terraforming.mars.terraformingmars.network.session.PlayerSession;
+import hr.terraforming.mars.terraformingmars.network.session.SessionRegistry;
+import hr.terraforming.mars.terraformingmars.network.spectator.SpectatorHub;
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateSnapshot;
+import hr.terraforming.mars.terraformingmars.network.sync.StateHistory;
+import hr.terraforming.mars.terraformingmars.network.sync.StateProjection;
+import hr.terraforming.mars.terraformingmars.network.transport.ConnectionListener;
+import hr.terraforming.mars.terraformingmars.network.transport.HeartbeatSettings;
+import hr.terraforming.mars.terraformingmars.network.transport.NioConnection;
+import hr.terraforming.mars.terraformingmars.network.transport.NioServer;
+import hr.terraforming.mars.terraformingmars.network.transport.OutboundLimits;
+import hr.terraforming.mars.terraformingmars.network.transport.SharedFrame;
+import hr.terraforming.mars.terraformingmars.thread.AppExecutors;
 import javafx.application.Platform;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.io.IOException;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
 import java.util.function.Consumer;
 
 @Slf4j
 public class GameServerThread implements Runnable {
 
+    private static final int STATE_HISTORY_SIZE = 64;
+    private static final int REPLAY_BUFFER_SIZE = 256;
+
     private final GameManager gameManager;
     private final GameBoard gameBoard;
     private ActionManager actionManager;
-    private final int maxPlayers;
+    private final int remoteSeats;
+    private final String localPlayerName;
     private final List<ClientHandler> connectedClients = new CopyOnWriteArrayList<>();
     @Setter
     private Consumer<Integer> onPlayerCountChanged;
-    private ServerSocket serverSocket;
+    @Setter
+    private Runnable onStateBroadcast;
+    private NioServer server;
     private final List<GameStateListener> localListeners = new CopyOnWriteArrayList<>();
     private CardDistributor cardDistributor;
     private volatile boolean running = true;
+    private final StateHistory stateHistory = new StateHistory(STATE_HISTORY_SIZE);
+    private final OutboundLimits outboundLimits = OutboundLimits.fromConfiguration();
+    private final SessionRegistry sessions;
+    private final HeartbeatSettings heartbeatSettings = HeartbeatSettings.fromConfiguration();
+    private ScheduledFuture<?> heartbeat;
+    private volatile SpectatorHub spectators;
+    private NioServer spectatorServer;
+    private GameStateSnapshot lastSpectatorSnapshot;
+    private Consumer<GameMove> headlessMoveProcessor;
+    @Getter
+    private final GameLoop gameLoop;
 
     public GameServerThread(GameManager gameManager, GameBoard gameBoard, ActionManager actionManager, int maxPlayers) {
+        this(gameManager, gameBoard, actionManager, maxPlayers - 1, ApplicationConfiguration.getInstance().getMyPlayerName(),
+                new GameLoop("game-loop"));
+    }
+
+    public GameServerThread(GameManager gameManager, GameBoard gameBoard, ActionManager actionManager,
+                            int remoteSeats, String localPlayerName, GameLoop gameLoop) {
         this.gameManager = gameManager;
         this.gameBoard = gameBoard;
         this.actionManager = actionManager;
-        this.maxPlayers = maxPlayers;
+        this.remoteSeats = remoteSeats;
+        this.localPlayerName = localPlayerName;
+        this.gameLoop = gameLoop;
+        this.sessions = new SessionRegistry(REPLAY_BUFFER_SIZE, remoteSeats);
+        sessions.setOnSeatsChanged(this::onSeatsChanged);
+        gameLoop.start();
     }
 
     @Override
@@ -49,40 +89,98 @@ public class GameServerThread implements Runnable {
             throw new ConfigurationException("Failed to read server port from configuration", e);
         }
 
-        try {
-            serverSocket = new ServerSocket(port);
-            log.info("Server started on port {}, waiting for {} players", port, maxPlayers - 1);
-
-            while (running && connectedClients.size() < maxPlayers - 1) {
-                Socket clientSocket = serverSocket.accept();
-                log.info("Client connected: {}", clientSocket.getInetAddress());
-
-                ClientHandler handler = new ClientHandler(clientSocket, gameManager, actionManager);
-                connectedClients.add(handler);
-                new Thread(handler).start();
-
-                if (handler.waitUntilReady(5000)) {
-                    log.debug("ClientHandler ready");
-                } else {
-                    log.error("ClientHandler failed to initialize");
-                }
-
-                if (onPlayerCountChanged != null) {
-                    Platform.runLater(() -> onPlayerCountChanged.accept(connectedClients.size()));
-                }
-                broadcastGameState(new GameState(gameManager, gameBoard));
-            }
-            log.info("All players connected, game can start!");
+        server = new NioServer(port, NioServer.defaultEventLoopCount(), this::attach);
+        server.start();
+        startHeartbeat();
+        log.info("Server started on port {}, waiting for {} players", port, remoteSeats);
 
-        } catch (IOException e) {
-            if (running) {
-                throw new NetworkException("Failed to start server on port " + port, e);
-            } else {
-                log.info("Server stopped");
-            }
+        int spectatorPort = ConfigurationReader.getIntegerValue(ConfigurationKey.SPECTATOR_PORT, 0);
+        if (spectatorPort > 0) {
+            spectatorServer = new NioServer(spectatorPort, 1, this::attachSpectator);
+            spectatorServer.start();
+            log.info("Accepting spectators on port {}", spectatorPort);
+        }
+    }
+
+    public synchronized void startHeartbeat() {
+        if (heartbeat != null) {
+            return;
+        }
+
+        heartbeat = AppExecutors.scheduleAtFixedRate(this::sendHeartbeats,
+                Duration.ofMillis(heartbeatSettings.intervalMillis()));
+    }
+
+    private void sendHeartbeats() {
+        for (ClientHandler client : connectedClients) {
+            client.heartbeat(heartbeatSettings);
+        }
+
+        SpectatorHub hub = spectators;
+        if (hub != null) {
+            hub.heartbeat(heartbeatSettings);
+        }
+    }
+
+    public synchronized ConnectionListener attach(NioConnection connection) {
+        if (!running) {
+            log.warn("Rejecting connection from {}: server is shutting down", connection.getRemoteAddress());
+            return null;
+        }
+
+        log.info("Client connected: {}", connection.getRemoteAddress());
+        connection.setLimits(outboundLimits);
+
+        ClientHandler handler = new ClientHandler(connection, gameManager, actionManager,
+                this::broadcastCurrentState, this::removeClient, sessions, gameLoop, stateHistory::nextVersion);
+        if (headlessMoveProcessor != null) {
+            handler.setHeadlessMoveProcessor(headlessMoveProcessor);
+        }
+        connection.schedule(handler::expireHandshake, heartbeatSettings.handshakeTimeoutMillis());
+        connectedClients.add(handler);
+
+        broadcastCurrentState();
+        return handler;
+    }
+
+    public synchronized ConnectionListener attachSpectator(NioConnection connection) {
+        if (!running) {
+            log.warn("Rejecting spectator from {}: server is shutting down", connection.getRemoteAddress());
+            return null;
+        }
+
+        if (spectators == null) {
+            spectators = new SpectatorHub(this::broadcastCurrentState);
+        }
+        return spectators.attach(connection);
+    }
+
+    private void onSeatsChanged(int seated) {
+        if (onPlayerCountChanged != null) {
+            Platform.runLater(() -> onPlayerCountChanged.accept(seated));
+        }
+
+        if (seated >= remoteSeats) {
+            log.info("All players connected, game can start!");
         }
     }
 
+    private void removeClient(ClientHandler handler) {
+        connectedClients.remove(handler);
+    }
+
+    public boolean isLocalPlayer(String playerName) {
+        return playerName != null && playerName.equals(localPlayerName);
+    }
+
+    public boolean isFull() {
+        return connectedClients.size() >= remoteSeats;
+    }
+
+    public void broadcastCurrentState() {
+        gameLoop.execute(() -> broadcastGameState(new GameState(gameManager, gameBoard)));
+    }
+
     public void sendToPlayer(String playerName, Object message) {
         for (ClientHandler client : connectedClients) {
             if (playerName.equals(client.getPlayerName())) {
@@ -90,22 +188,34 @@ public class GameServerThread implements Runnable {
                 return;
             }
         }
-        log.warn("Cannot send message to player {}, client not found.", playerName);
+
+        sessions.findByPlayerName(playerName).ifPresentOrElse(
+                session -> {
+                    log.debug("Player {} is disconnected, keeping {} for replay", playerName, message.getClass().getSimpleName());
+                    session.retain(new SharedFrame(message));
+                },
+                () -> log.warn("Cannot send message to player {}, client not found.", playerName));
     }
 
     public void distributeInitialCorporations() {
-        ensureDistributor();
-        cardDistributor.distributeInitialCorporations();
+        gameLoop.execute(() -> {
+            ensureDistributor();
+            cardDistributor.distributeInitialCorporations();
+        });
     }
 
     public void distributeInitialCards() {
-        ensureDistributor();
-        cardDistributor.distributeInitialCards();
+        gameLoop.execute(() -> {
+            ensureDistributor();
+            cardDistributor.distributeInitialCards();
+        });
     }
 
     public void distributeResearchCards() {
-        ensureDistributor();
-        cardDistributor.distributeResearchCards();
+        gameLoop.execute(() -> {
+            ensureDistributor();
+            cardDistributor.distributeResearchCards();
+        });
     }
 
     private void ensureDistributor() {
@@ -123,6 +233,13 @@ public class GameServerThread implements Runnable {
         this.cardDistributor = new CardDistributor(gameManager, this, actionManager);
     }
 
+    public synchronized void setHeadlessMoveProcessor(Consumer<GameMove> headlessMoveProcessor) {
+        this.headlessMoveProcessor = headlessMoveProcessor;
+        for (ClientHandler client : connectedClients) {
+            client.setHeadlessMoveProcessor(headlessMoveProcessor);
+        }
+    }
+
     public void addLocalListener(GameStateListener listener) {
         if (listener != null) {
             this.localListeners.add(listener);
@@ -130,20 +247,53 @@ public class GameServerThread implements Runnable {
     }
 
     public void broadcastGameState(GameState state) {
-        log.debug("Broadcasting to {} clients.", connectedClients.size());
+        GameStateSnapshot snapshot = stateHistory.record(state);
+        StateBroadcast broadcast = new StateBroadcast(state, snapshot, stateHistory);
+
+        log.debug("Broadcasting state v{} to {} clients.", snapshot.version(), connectedClients.size());
         for (ClientHandler client : connectedClients) {
-            client.sendGameState(state);
+            client.sendGameState(broadcast);
         }
+        publishToSpectators(broadcast);
         for (GameStateListener listener : localListeners) {
             Platform.runLater(() -> listener.onGameStateReceived(state));
         }
+        if (onStateBroadcast != null) {
+            onStateBroadcast.run();
+        }
+    }
+
+    private void publishToSpectators(StateBroadcast broadcast) {
+        SpectatorHub hub = spectators;
+        if (hub == null) {
+            return;
+        }
+
+        if (hub.needsSnapshot()) {
+            broadcast.captureState();
+        }
+
+        GameStateSnapshot previous = lastSpectatorSnapshot;
+        lastSpectatorSnapshot = broadcast.snapshot();
+        hub.publishState(broadcast.isStateCaptured() ? () -> broadcast.snapshotFrame(StateProjection.PUBLIC) : null,
+                previous != null ? () -> broadcast.deltaFrom(previous, StateProjection.PUBLIC) : null);
     }
 
     public void broadcastToAll(Object message) {
         log.debug("Broadcasting {} to all {} clients",
                 message.getClass().getSimpleName(), connectedClients.size());
+
+        SharedFrame frame = new SharedFrame(message);
         for (ClientHandler client : connectedClients) {
-            client.sendObject(message);
+            client.send(frame);
+        }
+        for (PlayerSession session : sessions.detached()) {
+            session.retain(frame);
+        }
+
+        SpectatorHub hub = spectators;
+        if (hub != null) {
+            hub.publish(frame);
         }
     }
 
@@ -151,20 +301,31 @@ public class GameServerThread implements Runnable {
         log.info("GameServerThread shutting down");
         running = false;
 
-        try {
-            if (serverSocket != null && !serverSocket.isClosed()) {
-                serverSocket.close();
-            }
+        for (ClientHandler client : connectedClients) {
+            client.close();
+        }
 
-            for (ClientHandler client : connectedClients) {
-                client.close();
-            }
+        if (server != null) {
+            server.shutdown();
+        }
 
-            connectedClients.clear();
-            localListeners.clear();
-            cardDistributor = null;
-        } catch (IOException e) {
-            throw new NetworkException("Failed to shutdown server cleanly", e);
+        if (spectatorServer != null) {
+            spectatorServer.shutdown();
         }
+        if (spectators != null) {
+            spectators.shutdown();
+        }
+
+        synchronized (this) {
+            AppExecutors.cancel(heartbeat);
+            heartbeat = null;
+        }
+
+        connectedClients.clear();
+        localListeners.clear();
+        stateHistory.clear();
+        sessions.clear();
+        gameLoop.shutdown();
+        cardDistributor = null;
     }
 }
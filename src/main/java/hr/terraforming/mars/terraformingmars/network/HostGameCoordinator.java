@@ -12,6 +12,11 @@ import lombok.extern.slf4j.Slf4j;
 public class HostGameCoordinator implements GameStateListener {
 
     private GameplayPhase currentPhase = GameplayPhase.JOINING;
+    private final GameServerThread server;
+
+    public HostGameCoordinator(GameServerThread server) {
+        this.server = server;
+    }
 
     @Override
     public void onGameStateReceived(GameState state) {
@@ -32,7 +37,7 @@ public class HostGameCoordinator implements GameStateListener {
         if (allJoined) {
             log.info("All players have joined, transitioning to Corporation Selection");
             currentPhase = GameplayPhase.CORPORATION_SELECTION;
-            ApplicationConfiguration.getInstance().getGameServer().distributeInitialCorporations();
+            server.distributeInitialCorporations();
         }
     }
 
@@ -43,7 +48,7 @@ public class HostGameCoordinator implements GameStateListener {
         if (allChosen) {
             log.info("All players have chosen corporations, transitioning to Card Draft");
             currentPhase = GameplayPhase.CARD_DRAFT;
-            ApplicationConfiguration.getInstance().getGameServer().distributeInitialCards();
+            server.distributeInitialCards();
         }
     }
 
@@ -9,30 +9,38 @@ import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.network.message.CardChoiceMessage;
 import hr.terraforming.mars.terraformingmars.network.message.CorporationChoiceMessage;
 import hr.terraforming.mars.terraformingmars.network.message.PlayerNameMessage;
+import hr.terraforming.mars.terraformingmars.service.MoveRulesService;
 import hr.terraforming.mars.terraformingmars.util.GameMoveUtils;
-import javafx.application.Platform;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 @Slf4j
-public record ServerMessageHandler(GameManager gameManager, ActionManager actionManager, Runnable broadcaster) {
+public record ServerMessageHandler(GameManager gameManager, ActionManager actionManager, Runnable broadcaster,
+                                   GameLoop gameLoop, Consumer<GameMove> headlessMoveProcessor) {
 
     public String handlePlayerName(PlayerNameMessage msg) {
         String playerName = msg.playerName();
 
-        for (Player player : gameManager.getPlayers()) {
-            if (player.getName().startsWith("Player ")) {
-                player.setName(playerName);
-                broadcaster.run();
-                break;
+        gameLoop.submit(() -> {
+            for (Player player : gameManager.getPlayers()) {
+                if (player.getName().startsWith("Player ")) {
+                    player.setName(playerName);
+                    broadcaster.run();
+                    break;
+                }
             }
-        }
+        });
         return playerName;
     }
 
     public void handleCorporationChoice(String playerName, CorporationChoiceMessage msg) {
+        gameLoop.submit(() -> applyCorporationChoice(playerName, msg));
+    }
+
+    private void applyCorporationChoice(String playerName, CorporationChoiceMessage msg) {
         Corporation corporation = CorporationFactory.getCorporationByName(msg.corporationName());
 
         if (corporation == null) {
@@ -56,6 +64,10 @@ public record ServerMessageHandler(GameManager gameManager, ActionManager action
     }
 
     public void handleCardChoice(String playerName, CardChoiceMessage msg) {
+        gameLoop.submit(() -> applyCardChoice(playerName, msg));
+    }
+
+    private void applyCardChoice(String playerName, CardChoiceMessage msg) {
         Player player = gameManager.getPlayerByName(playerName);
 
         if (player == null) {
@@ -67,50 +79,38 @@ public record ServerMessageHandler(GameManager gameManager, ActionManager action
                 .filter(Objects::nonNull)
                 .toList();
 
-        int cost = boughtCards.size() * 3;
-
-        if (player.getMC() < cost) {
+        if (!MoveRulesService.buyResearchCards(player, boughtCards)) {
             throw new GameStateException("Player '" + playerName + "' tried to buy cards without enough MC");
         }
 
-        player.canSpendMC(cost);
-        player.getHand().addAll(boughtCards);
-
-        synchronized (gameManager) {
-            boolean morePlayersToChoose = gameManager.hasMoreDraftPlayers();
-
-            if (!morePlayersToChoose) {
-                if (gameManager.getGeneration() == 0) {
-                    GameMoveUtils.saveInitialSetupMove(gameManager);
-                    gameManager.startGame();
-                } else {
-                    Platform.runLater(() -> {
-                        var flowManager = actionManager.getGameFlowManager();
-                        if (flowManager != null) {
-                            flowManager.finishResearchPhase();
-                        }
-                    });
-                }
+        boolean morePlayersToChoose = gameManager.hasMoreDraftPlayers();
+
+        if (!morePlayersToChoose) {
+            if (gameManager.getGeneration() == 0) {
+                GameMoveUtils.saveInitialSetupMove(gameManager);
+                gameManager.startGame();
+            } else if (actionManager != null && actionManager.getGameFlowManager() != null) {
+                actionManager.getGameFlowManager().finishResearchPhase();
             }
         }
 
         broadcaster.run();
     }
 
-    public void handleGameMove(GameMove move) {
-        if (actionManager == null) {
-            log.debug("ActionManager is null, cannot process move");
-            return;
-        }
+    public void handleGameMove(GameMove move, Runnable onAccepted) {
+        Consumer<GameMove> processor = actionManager != null ? actionManager::processMove : headlessMoveProcessor;
 
-        Platform.runLater(() -> {
-            try {
-                actionManager.processMove(move);
-                if (shouldBroadcastAfterMove(move.actionType())) {
-                    broadcaster.run();
-                }
-            } catch (Exception e) {
-                log.error("Error processing move on FX thread", e);
+        gameLoop.submit(() -> {
+            onAccepted.run();
+
+            if (processor == null) {
+                log.debug("ActionManager is null, cannot process move");
+                return;
+            }
+
+            processor.accept(move);
+            if (actionManager == null || shouldBroadcastAfterMove(move.actionType())) {
+                broadcaster.run();
             }
         });
     }
@@ -0,0 +1,54 @@
+package hr.terraforming.mars.terraformingmars.network;
+
+import hr.terraforming.mars.terraformingmars.model.GameState;
+import hr.terraforming.mars.terraformingmars.network.message.StateDeltaMessage;
+import hr.terraforming.mars.terraformingmars.network.message.StateSnapshotMessage;
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateDelta;
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateSnapshot;
+import hr.terraforming.mars.terraformingmars.network.sync.StateHistory;
+import hr.terraforming.mars.terraformingmars.network.sync.StateProjection;
+import hr.terraforming.mars.terraformingmars.network.transport.SharedFrame;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+record StateBroadcast(GameState state, GameStateSnapshot snapshot, StateHistory history,
+                      AtomicReference<GameState> capturedState,
+                      Map<StateProjection, SharedFrame> snapshotFrames, Map<DeltaKey, SharedFrame> deltaFrames) {
+
+    StateBroadcast(GameState state, GameStateSnapshot snapshot, StateHistory history) {
+        this(state, snapshot, history, new AtomicReference<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    long version() {
+        return snapshot.version();
+    }
+
+    void captureState() {
+        if (capturedState.get() == null) {
+            capturedState.set(state.copy());
+        }
+    }
+
+    boolean isStateCaptured() {
+        return capturedState.get() != null;
+    }
+
+    SharedFrame snapshotFrame(StateProjection view) {
+        GameState captured = capturedState.get();
+        if (captured == null) {
+            throw new IllegalStateException("State v" + version() + " was not captured for a snapshot");
+        }
+
+        return snapshotFrames.computeIfAbsent(view,
+                _ -> new SharedFrame(new StateSnapshotMessage(snapshot.version(), captured), view));
+    }
+
+    SharedFrame deltaFrom(GameStateSnapshot base, StateProjection view) {
+        return deltaFrames.computeIfAbsent(new DeltaKey(base.version(), view),
+                _ -> new SharedFrame(new StateDeltaMessage(GameStateDelta.between(base, snapshot).projectedFor(view))));
+    }
+
+    private record DeltaKey(long baseVersion, StateProjection view) {}
+}
@@ -0,0 +1,104 @@
+package hr.terraforming.mars.terraformingmars.network;
+
+import hr.terraforming.mars.terraformingmars.model.GameState;
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateDelta;
+import hr.terraforming.mars.terraformingmars.network.sync.MovePredictor;
+import hr.terraforming.mars.terraformingmars.network.sync.StateHistory;
+import javafx.application.Platform;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Slf4j
+final class StateMailbox {
+
+    private final Consumer<GameState> sink;
+    private final Runnable onDivergence;
+    private final MovePredictor predictor = new MovePredictor();
+    private Batch open;
+
+    StateMailbox(Consumer<GameState> sink, Runnable onDivergence) {
+        this.sink = sink;
+        this.onDivergence = onDivergence;
+    }
+
+    MovePredictor predictor() {
+        return predictor;
+    }
+
+    synchronized void offerSnapshot(GameState state, long version) {
+        Batch batch = openBatch();
+        batch.state = state;
+        batch.version = version;
+        batch.deltas.clear();
+        batch.updates++;
+    }
+
+    synchronized void offerDelta(GameStateDelta delta, GameState state) {
+        Batch batch = openBatch();
+        if (batch.state != state) {
+            batch.state = state;
+            batch.deltas.clear();
+        }
+        batch.deltas.add(delta);
+        batch.version = delta.version();
+        batch.updates++;
+    }
+
+    synchronized void offerMoveAck(long sequence, long stateVersion) {
+        predictor.acknowledge(sequence, stateVersion);
+        openBatch();
+    }
+
+    synchronized void seal() {
+        open = null;
+    }
+
+    private Batch openBatch() {
+        if (open == null) {
+            Batch batch = new Batch();
+            open = batch;
+            Platform.runLater(() -> deliver(batch));
+        }
+        return open;
+    }
+
+    private void deliver(Batch batch) {
+        GameState state;
+        List<GameStateDelta> deltas;
+        long version;
+        synchronized (this) {
+            if (open == batch) {
+                open = null;
+            }
+            state = batch.state != null ? batch.state : predictor.currentState();
+            deltas = List.copyOf(batch.deltas);
+            version = batch.version;
+        }
+
+        if (state == null) {
+            return;
+        }
+
+        predictor.rollback(state);
+        deltas.forEach(delta -> delta.applyTo(state));
+        if (!deltas.isEmpty() && !deltas.getLast().matches(state)) {
+            log.warn("State v{} does not match the host checksum after applying deltas", deltas.getLast().version());
+            onDivergence.run();
+        }
+        predictor.rebase(state, version);
+        if (batch.updates > 1) {
+            log.trace("Coalesced {} state updates into one refresh", batch.updates);
+        }
+        sink.accept(state);
+    }
+
+    private static final class Batch {
+        private GameState state;
+        private long version = StateHistory.NO_VERSION;
+        private final List<GameStateDelta> deltas = new ArrayList<>();
+        private int updates;
+    }
+}
@@ -0,0 +1,517 @@
+package hr.terraforming.mars.terraformingmars.network.codec;
+
+import hr.terraforming.mars.terraformingmars.enums.*;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationKey;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationReader;
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import hr.terraforming.mars.terraformingmars.model.GameState;
+import hr.terraforming.mars.terraformingmars.model.ProductionReport;
+import hr.terraforming.mars.terraformingmars.network.message.*;
+import hr.terraforming.mars.terraformingmars.network.sync.*;
+import lombok.Getter;
+
+import java.io.StreamCorruptedException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+public class BinaryMessageCodec {
+
+    public static final int PROTOCOL_VERSION = 4;
+    private static final int HAND_SIZE_VERSION = 2;
+    private static final int CHECKSUM_VERSION = 3;
+    private static final int SNAPSHOT_VERSION = 4;
+    public static final int JAVA_SERIALIZATION = 0;
+
+    private static NameCatalog localCatalog;
+    private static CompressionDictionary localDictionary;
+
+    @Getter
+    private final int version;
+    private final NameCatalog catalog;
+    private final CompressionDictionary dictionary;
+    @Getter
+    private final CompressionStats compressionStats = new CompressionStats();
+
+    private BinaryMessageCodec(int version, NameCatalog catalog, CompressionDictionary dictionary) {
+        this.version = version;
+        this.catalog = catalog;
+        this.dictionary = dictionary;
+    }
+
+    public static ProtocolHelloMessage localHello() {
+        boolean compression = Boolean.parseBoolean(
+                ConfigurationReader.getStringValue(ConfigurationKey.NETWORK_COMPRESSION, "false").trim());
+        return new ProtocolHelloMessage(PROTOCOL_VERSION, localCatalog().fingerprint(),
+                compression, localDictionary().fingerprint());
+    }
+
+    public static ProtocolHelloMessage replyTo(ProtocolHelloMessage remote) {
+        return new ProtocolHelloMessage(Math.min(PROTOCOL_VERSION, remote.protocolVersion()),
+                localCatalog().fingerprint(), acceptsCompression(remote), localDictionary().fingerprint());
+    }
+
+    public static Optional<BinaryMessageCodec> negotiate(ProtocolHelloMessage remote) {
+        int agreed = Math.min(PROTOCOL_VERSION, remote.protocolVersion());
+        if (agreed <= JAVA_SERIALIZATION) {
+            return Optional.empty();
+        }
+
+        NameCatalog catalog = localCatalog();
+        boolean sharedCatalog = catalog.fingerprint() == remote.catalogFingerprint();
+        return Optional.of(new BinaryMessageCodec(agreed, sharedCatalog ? catalog : NameCatalog.EMPTY,
+                acceptsCompression(remote) ? localDictionary() : null));
+    }
+
+    private static boolean acceptsCompression(ProtocolHelloMessage remote) {
+        return remote.compression() && remote.dictionaryFingerprint() == localDictionary().fingerprint();
+    }
+
+    private static synchronized NameCatalog localCatalog() {
+        if (localCatalog == null || localCatalog.size() == 0) {
+            localCatalog = NameCatalog.fromGameData();
+        }
+        return localCatalog;
+    }
+
+    private static synchronized CompressionDictionary localDictionary() {
+        if (localDictionary == null || localCatalog().size() == 0) {
+            localDictionary = CompressionDictionary.fromGameData();
+        }
+        return localDictionary;
+    }
+
+    public boolean usesCatalog() {
+        return catalog.size() > 0;
+    }
+
+    public boolean usesCompression() {
+        return dictionary != null;
+    }
+
+    public int formatKey(Object message) {
+        int encoding = supports(message) ? version * 2 + (usesCatalog() ? 1 : 0) : JAVA_SERIALIZATION;
+        return encoding * 2 + (usesCompression() ? 1 : 0);
+    }
+
+    public byte[] compress(byte[] payload) {
+        return usesCompression() ? FrameCompression.compress(payload, dictionary, compressionStats) : payload;
+    }
+
+    public byte[] decompress(byte[] payload) throws StreamCorruptedException {
+        if (!usesCompression()) {
+            throw new StreamCorruptedException("Compressed frame received without negotiated compression");
+        }
+        return FrameCompression.decompress(payload, dictionary, compressionStats);
+    }
+
+    public static boolean isBinaryPayload(byte[] payload) {
+        return payload.length > 0 && payload[0] > JAVA_SERIALIZATION && payload[0] <= PROTOCOL_VERSION;
+    }
+
+    public boolean supports(Object message) {
+        return typeOf(message, version) != null;
+    }
+
+    public byte[] encode(Object message) {
+        return encode(message, null);
+    }
+
+    public byte[] encode(Object message, UnaryOperator<Object> projection) {
+        MessageType type = typeOf(message, version);
+        if (type == null) {
+            throw new IllegalArgumentException("No binary encoding for " + message.getClass().getName());
+        }
+
+        WireWriter out = new WireWriter(catalog);
+        out.writeByte(version).writeByte(type.getCode());
+
+        switch (message) {
+            case ProtocolHelloMessage msg -> out.writeVarInt(msg.protocolVersion())
+                    .writeVarLong(msg.catalogFingerprint())
+                    .writeBoolean(msg.compression())
+                    .writeVarLong(msg.dictionaryFingerprint());
+            case PlayerNameMessage msg -> out.writeString(msg.playerName());
+            case JoinRoomMessage msg -> out.writeString(msg.roomId());
+            case JoinRejectedMessage msg -> out.writeString(msg.roomId()).writeString(msg.reason());
+            case CorporationOfferMessage msg -> out.writeString(msg.playerName()).writeNames(msg.corporationNames());
+            case CorporationChoiceMessage msg -> out.writeName(msg.corporationName());
+            case CardOfferMessage msg -> out.writeString(msg.playerName()).writeNames(msg.cardNames());
+            case CardChoiceMessage msg -> out.writeNames(msg.cardNames());
+            case GameMove move -> writeMove(out, move);
+            case StateDeltaMessage msg -> writeDelta(out, msg.delta(), version);
+            case StateSnapshotMessage msg -> {
+                out.writeSignedLong(msg.version());
+                writeGameState(out, msg.state(), projection, version);
+            }
+            case GameState state -> writeGameState(out, state, projection, version);
+            case StateAckMessage msg -> out.writeSignedLong(msg.version());
+            case ProductionPhaseMessage msg -> writeProductionPhase(out, msg);
+            case FinalGreeneryOfferMessage msg -> out.writeString(msg.playerName());
+            case GameOverMessage _ -> { }
+            case SessionTokenMessage msg -> out.writeString(msg.token());
+            case ResumeSessionMessage msg -> out.writeString(msg.token()).writeSignedLong(msg.lastSequence());
+            case PingMessage msg -> out.writeSignedLong(msg.timestamp());
+            case PongMessage msg -> out.writeSignedLong(msg.timestamp());
+            case SpectateMessage msg -> out.writeString(msg.roomId());
+            case MoveAckMessage msg -> out.writeVarLong(msg.sequence()).writeSignedLong(msg.stateVersion());
+            default -> throw new IllegalStateException("Unhandled message type " + type);
+        }
+
+        return out.toByteArray();
+    }
+
+    public Object decode(byte[] payload) throws StreamCorruptedException {
+        if (payload.length == 0 || payload[0] != version) {
+            throw new StreamCorruptedException("Unsupported binary protocol version "
+                    + (payload.length > 0 ? payload[0] : "<none>") + ", negotiated v" + version);
+        }
+
+        WireReader in = new WireReader(catalog, payload, 1);
+        MessageType type = MessageType.fromCode(in.readByte());
+        if (type == null) {
+            throw new StreamCorruptedException("Unknown binary message type");
+        }
+
+        Object message = switch (type) {
+            case PROTOCOL_HELLO -> new ProtocolHelloMessage(in.readVarInt(), in.readVarLong(), in.readBoolean(), in.readVarLong());
+            case PLAYER_NAME -> new PlayerNameMessage(in.readString());
+            case JOIN_ROOM -> new JoinRoomMessage(in.readString());
+            case JOIN_REJECTED -> new JoinRejectedMessage(in.readString(), in.readString());
+            case CORPORATION_OFFER -> new CorporationOfferMessage(in.readString(), in.readNames());
+            case CORPORATION_CHOICE -> new CorporationChoiceMessage(in.readName());
+            case CARD_OFFER -> new CardOfferMessage(in.readString(), in.readNames());
+            case CARD_CHOICE -> new CardChoiceMessage(in.readNames());
+            case GAME_MOVE -> readMove(in);
+            case STATE_DELTA -> new StateDeltaMessage(readDelta(in, version));
+            case STATE_SNAPSHOT -> {
+                long stateVersion = in.readSignedLong();
+                yield new StateSnapshotMessage(stateVersion, readGameState(in, stateVersion, version));
+            }
+            case GAME_STATE -> readGameState(in, StateHistory.NO_VERSION, version);
+            case STATE_ACK -> new StateAckMessage(in.readSignedLong());
+            case PRODUCTION_PHASE -> readProductionPhase(in);
+            case FINAL_GREENERY_OFFER -> new FinalGreeneryOfferMessage(in.readString());
+            case GAME_OVER -> new GameOverMessage();
+            case SESSION_TOKEN -> new SessionTokenMessage(in.readString());
+            case RESUME_SESSION -> new ResumeSessionMessage(in.readString(), in.readSignedLong());
+            case PING -> new PingMessage(in.readSignedLong());
+            case PONG -> new PongMessage(in.readSignedLong());
+            case SPECTATE -> new SpectateMessage(in.readString());
+            case MOVE_ACK -> new MoveAckMessage(in.readVarLong(), in.readSignedLong());
+        };
+
+        if (in.hasRemaining()) {
+            throw new StreamCorruptedException("Trailing bytes after " + type);
+        }
+        return message;
+    }
+
+    private static MessageType typeOf(Object message, int protocolVersion) {
+        return switch (message) {
+            case ProtocolHelloMessage _ -> MessageType.PROTOCOL_HELLO;
+            case PlayerNameMessage _ -> MessageType.PLAYER_NAME;
+            case JoinRoomMessage _ -> MessageType.JOIN_ROOM;
+            case JoinRejectedMessage _ -> MessageType.JOIN_REJECTED;
+            case CorporationOfferMessage _ -> MessageType.CORPORATION_OFFER;
+            case CorporationChoiceMessage _ -> MessageType.CORPORATION_CHOICE;
+            case CardOfferMessage _ -> MessageType.CARD_OFFER;
+            case CardChoiceMessage _ -> MessageType.CARD_CHOICE;
+            case GameMove _ -> MessageType.GAME_MOVE;
+            case StateDeltaMessage _ -> MessageType.STATE_DELTA;
+            case StateSnapshotMessage _ when protocolVersion >= SNAPSHOT_VERSION -> MessageType.STATE_SNAPSHOT;
+            case GameState _ when protocolVersion >= SNAPSHOT_VERSION -> MessageType.GAME_STATE;
+            case StateAckMessage _ -> MessageType.STATE_ACK;
+            case ProductionPhaseMessage _ -> MessageType.PRODUCTION_PHASE;
+            case FinalGreeneryOfferMessage _ -> MessageType.FINAL_GREENERY_OFFER;
+            case GameOverMessage _ -> MessageType.GAME_OVER;
+            case SessionTokenMessage _ -> MessageType.SESSION_TOKEN;
+            case ResumeSessionMessage _ -> MessageType.RESUME_SESSION;
+            case PingMessage _ -> MessageType.PING;
+            case PongMessage _ -> MessageType.PONG;
+            case SpectateMessage _ -> MessageType.SPECTATE;
+            case MoveAckMessage _ -> MessageType.MOVE_ACK;
+            case null, default -> null;
+        };
+    }
+
+    private static void writeMove(WireWriter out, GameMove move) {
+        out.writeString(move.playerName())
+                .writeEnum(move.actionType())
+                .writeString(move.details())
+                .writeString(move.message())
+                .writeOptionalInt(move.row())
+                .writeOptionalInt(move.col())
+                .writeEnum(move.tileType());
+
+        LocalDateTime timestamp = move.timestamp();
+        out.writeBoolean(timestamp != null);
+        if (timestamp != null) {
+            out.writeSignedLong(timestamp.toEpochSecond(ZoneOffset.UTC)).writeVarInt(timestamp.getNano());
+        }
+    }
+
+    private static GameMove readMove(WireReader in) throws StreamCorruptedException {
+        String playerName = in.readString();
+        ActionType actionType = in.readEnum(ActionType.values());
+        String details = in.readString();
+        String message = in.readString();
+        Integer row = in.readOptionalInt();
+        Integer col = in.readOptionalInt();
+        TileType tileType = in.readEnum(TileType.values());
+
+        LocalDateTime timestamp = null;
+        if (in.readBoolean()) {
+            timestamp = LocalDateTime.ofEpochSecond(in.readSignedLong(), in.readVarInt(), ZoneOffset.UTC);
+        }
+
+        return new GameMove(playerName, actionType, details, message, row, col, tileType, timestamp);
+    }
+
+    private static void writeProductionPhase(WireWriter out, ProductionPhaseMessage msg) {
+        out.writeVarInt(msg.generation()).writeVarInt(msg.summaries().size());
+        for (ProductionReport report : msg.summaries()) {
+            out.writeString(report.getPlayerName())
+                    .writeName(report.getCorporationName())
+                    .writeSignedInt(report.getMegaCreditsBefore())
+                    .writeSignedInt(report.getMegaCreditsAfter())
+                    .writeSignedInt(report.getMegaCreditsProduction())
+                    .writeSignedInt(report.getPlantsBefore())
+                    .writeSignedInt(report.getPlantsAfter())
+                    .writeSignedInt(report.getPlantsProduction())
+                    .writeSignedInt(report.getHeatBefore())
+                    .writeSignedInt(report.getHeatAfter())
+                    .writeSignedInt(report.getHeatProduction())
+                    .writeSignedInt(report.getEnergyBefore())
+                    .writeSignedInt(report.getEnergyAfter())
+                    .writeSignedInt(report.getEnergyProduction())
+                    .writeSignedInt(report.getEnergyConvertedToHeat());
+        }
+    }
+
+    private static ProductionPhaseMessage readProductionPhase(WireReader in) throws StreamCorruptedException {
+        int generation = in.readVarInt();
+        int count = in.readCount();
+
+        List<ProductionReport> summaries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ProductionReport report = new ProductionReport();
+            report.setPlayerName(in.readString());
+            report.setCorporationName(in.readName());
+            report.setMegaCreditsBefore(in.readSignedInt());
+            report.setMegaCreditsAfter(in.readSignedInt());
+            report.setMegaCreditsProduction(in.readSignedInt());
+            report.setPlantsBefore(in.readSignedInt());
+            report.setPlantsAfter(in.readSignedInt());
+            report.setPlantsProduction(in.readSignedInt());
+            report.setHeatBefore(in.readSignedInt());
+            report.setHeatAfter(in.readSignedInt());
+            report.setHeatProduction(in.readSignedInt());
+            report.setEnergyBefore(in.readSignedInt());
+            report.setEnergyAfter(in.readSignedInt());
+            report.setEnergyProduction(in.readSignedInt());
+            report.setEnergyConvertedToHeat(in.readSignedInt());
+            summaries.add(report);
+        }
+
+        return new ProductionPhaseMessage(summaries, generation);
+    }
+
+    private static void writeDelta(WireWriter out, GameStateDelta delta, int protocolVersion) {
+        out.writeSignedLong(delta.baseVersion()).writeSignedLong(delta.version());
+
+        out.writeBoolean(delta.turn() != null);
+        if (delta.turn() != null) {
+            writeTurn(out, delta.turn());
+        }
+
+        out.writeBoolean(delta.board() != null);
+        if (delta.board() != null) {
+            writeBoard(out, delta.board());
+        }
+
+        out.writeVarInt(delta.players().size());
+        delta.players().forEach(player -> writePlayer(out, player, protocolVersion));
+
+        out.writeVarInt(delta.tiles().size());
+        delta.tiles().forEach(tile -> writeTile(out, tile));
+
+        if (protocolVersion >= CHECKSUM_VERSION) {
+            out.writeSignedLong(delta.checksum());
+        }
+    }
+
+    private static GameStateDelta readDelta(WireReader in, int protocolVersion) throws StreamCorruptedException {
+        long baseVersion = in.readSignedLong();
+        long version = in.readSignedLong();
+        TurnSnapshot turn = in.readBoolean() ? readTurn(in) : null;
+        BoardSnapshot board = in.readBoolean() ? readBoard(in) : null;
+
+        int playerCount = in.readCount();
+        List<PlayerSnapshot> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(readPlayer(in, protocolVersion));
+        }
+
+        List<TileSnapshot> tiles = readTiles(in);
+
+        long checksum = protocolVersion >= CHECKSUM_VERSION ? in.readSignedLong() : StateChecksum.NO_CHECKSUM;
+        return new GameStateDelta(baseVersion, version, turn, board, List.copyOf(players), tiles, checksum);
+    }
+
+    private static void writeGameState(WireWriter out, GameState state, UnaryOperator<Object> projection,
+                                       int protocolVersion) {
+        GameStateSnapshot snapshot = GameStateSnapshot.capture(StateHistory.NO_VERSION, state);
+
+        writeTurn(out, snapshot.turn());
+        writeBoard(out, snapshot.board());
+
+        out.writeVarInt(snapshot.players().size());
+        for (PlayerSnapshot player : snapshot.players()) {
+            writePlayer(out, projection != null ? (PlayerSnapshot) projection.apply(player) : player, protocolVersion);
+        }
+
+        out.writeVarInt(snapshot.tiles().size());
+        snapshot.tiles().forEach(tile -> writeTile(out, tile));
+    }
+
+    private static GameState readGameState(WireReader in, long stateVersion, int protocolVersion)
+            throws StreamCorruptedException {
+        TurnSnapshot turn = readTurn(in);
+        BoardSnapshot board = readBoard(in);
+
+        int playerCount = in.readCount();
+        List<PlayerSnapshot> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(readPlayer(in, protocolVersion));
+        }
+
+        List<TileSnapshot> tiles = readTiles(in);
+
+        try {
+            return new GameStateSnapshot(stateVersion, turn, board, List.copyOf(players), tiles).restore();
+        } catch (RuntimeException e) {
+            StreamCorruptedException corrupted = new StreamCorruptedException("Invalid game state snapshot");
+            corrupted.initCause(e);
+            throw corrupted;
+        }
+    }
+
+    private static void writeTile(WireWriter out, TileSnapshot tile) {
+        out.writeVarInt(tile.index()).writeEnum(tile.type()).writeVarInt(tile.ownerNumber());
+    }
+
+    private static List<TileSnapshot> readTiles(WireReader in) throws StreamCorruptedException {
+        int count = in.readCount();
+        List<TileSnapshot> tiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tiles.add(new TileSnapshot(in.readVarInt(), in.readEnum(TileType.values()), in.readVarInt()));
+        }
+        return List.copyOf(tiles);
+    }
+
+    private static void writeTurn(WireWriter out, TurnSnapshot turn) {
+        out.writeVarInt(turn.generation())
+                .writeEnum(turn.phase())
+                .writeVarInt(turn.currentPlayerNumber())
+                .writeVarInt(turn.firstPlayerNumber())
+                .writeVarInt(turn.passedPlayerNumbers().size());
+        turn.passedPlayerNumbers().forEach(out::writeVarInt);
+        out.writeVarInt(turn.actionsTaken()).writeSignedInt(turn.cardDraftPlayerIndex());
+    }
+
+    private static TurnSnapshot readTurn(WireReader in) throws StreamCorruptedException {
+        int generation = in.readVarInt();
+        GamePhase phase = in.readEnum(GamePhase.values());
+        int current = in.readVarInt();
+        int first = in.readVarInt();
+
+        int passedCount = in.readCount();
+        List<Integer> passed = new ArrayList<>(passedCount);
+        for (int i = 0; i < passedCount; i++) {
+            passed.add(in.readVarInt());
+        }
+
+        return new TurnSnapshot(generation, phase, current, first, List.copyOf(passed), in.readVarInt(), in.readSignedInt());
+    }
+
+    private static void writeBoard(WireWriter out, BoardSnapshot board) {
+        out.writeSignedInt(board.oxygen())
+                .writeSignedInt(board.temperature())
+                .writeSignedInt(board.oceans())
+                .writeBoolean(board.finalGeneration())
+                .writeVarInt(board.claimedMilestones().size());
+        board.claimedMilestones().forEach((milestone, playerNumber) ->
+                out.writeEnum(milestone).writeVarInt(playerNumber));
+    }
+
+    private static BoardSnapshot readBoard(WireReader in) throws StreamCorruptedException {
+        int oxygen = in.readSignedInt();
+        int temperature = in.readSignedInt();
+        int oceans = in.readSignedInt();
+        boolean finalGeneration = in.readBoolean();
+
+        int count = in.readCount();
+        Map<Milestone, Integer> milestones = new EnumMap<>(Milestone.class);
+        for (int i = 0; i < count; i++) {
+            milestones.put(in.readEnum(Milestone.values()), in.readVarInt());
+        }
+
+        return new BoardSnapshot(oxygen, temperature, oceans, finalGeneration, milestones);
+    }
+
+    private static void writePlayer(WireWriter out, PlayerSnapshot player, int protocolVersion) {
+        out.writeVarInt(player.playerNumber())
+                .writeString(player.name())
+                .writeName(player.corporationName())
+                .writeSignedInt(player.mc())
+                .writeSignedInt(player.tr())
+                .writeSignedInt(player.tilePoints());
+        writeResources(out, player.resources());
+        writeResources(out, player.production());
+        out.writeNames(player.hand());
+        if (protocolVersion >= HAND_SIZE_VERSION) {
+            out.writeVarInt(player.handSize());
+        }
+        out.writeNames(player.played()).writeVarInt(player.milestones().size());
+        player.milestones().forEach(out::writeEnum);
+    }
+
+    private static PlayerSnapshot readPlayer(WireReader in, int protocolVersion) throws StreamCorruptedException {
+        int playerNumber = in.readVarInt();
+        String name = in.readString();
+        String corporationName = in.readName();
+        int mc = in.readSignedInt();
+        int tr = in.readSignedInt();
+        int tilePoints = in.readSignedInt();
+        Map<ResourceType, Integer> resources = readResources(in);
+        Map<ResourceType, Integer> production = readResources(in);
+        List<String> hand = in.readNames();
+        int handSize = protocolVersion >= HAND_SIZE_VERSION ? in.readVarInt() : hand.size();
+        List<String> played = in.readNames();
+
+        int milestoneCount = in.readCount();
+        List<Milestone> milestones = new ArrayList<>(milestoneCount);
+        for (int i = 0; i < milestoneCount; i++) {
+            milestones.add(in.readEnum(Milestone.values()));
+        }
+
+        return new PlayerSnapshot(playerNumber, name, corporationName, mc, tr, tilePoints, resources, production,
+                List.copyOf(hand), handSize, List.copyOf(played), List.copyOf(milestones));
+    }
+
+    private static void writeResources(WireWriter out, Map<ResourceType, Integer> values) {
+        out.writeVarInt(values.size());
+        values.forEach((type, amount) -> out.writeEnum(type).writeSignedInt(amount));
+    }
+
+    private static Map<ResourceType, Integer> readResources(WireReader in) throws StreamCorruptedException {
+        int count = in.readCount();
+        Map<ResourceType, Integer> values = new EnumMap<>(ResourceType.class);
+        for (int i = 0; i < count; i++) {
+            values.put(in.readEnum(ResourceType.values()), in.readSignedInt());
+        }
+        return values;
+    }
+}
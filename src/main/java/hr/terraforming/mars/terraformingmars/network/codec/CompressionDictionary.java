@@ -0,0 +1,62 @@
+package hr.terraforming.mars.terraformingmars.network.codec;
+
+import hr.terraforming.mars.terraformingmars.enums.*;
+import hr.terraforming.mars.terraformingmars.factory.CardFactory;
+import hr.terraforming.mars.terraformingmars.factory.CorporationFactory;
+import hr.terraforming.mars.terraformingmars.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+
+public final class CompressionDictionary {
+
+    private static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+    private static final List<Class<?>> SERIALIZED_TYPES = List.of(
+            GameState.class, GameManager.class, GameBoard.class, Player.class, PlayerState.class, Tile.class,
+            Card.class, Corporation.class, TileType.class, TagType.class, ResourceType.class, Milestone.class,
+            GamePhase.class, ActionType.class, ArrayList.class, HashMap.class, EnumMap.class, Integer.class);
+
+    private final byte[] bytes;
+    private final long fingerprint;
+
+    private CompressionDictionary(byte[] bytes) {
+        this.bytes = bytes;
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        this.fingerprint = crc.getValue();
+    }
+
+    public static CompressionDictionary fromGameData() {
+        List<Card> cards = CardFactory.getAllCards().stream()
+                .sorted(Comparator.comparing(Card::getName))
+                .toList();
+        List<Corporation> corporations = CorporationFactory.getAllCorporations();
+
+        // Deflate favours the end of the dictionary, so the most frequent strings go last.
+        List<String> entries = new ArrayList<>();
+        cards.stream().map(Card::getDescription).filter(Objects::nonNull).forEach(entries::add);
+        corporations.stream().map(Corporation::abilityDescription).forEach(entries::add);
+        SERIALIZED_TYPES.stream().map(Class::getName).forEach(entries::add);
+        cards.stream().map(Card::getName).forEach(entries::add);
+        corporations.stream().map(Corporation::name).forEach(entries::add);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entries.forEach(entry -> out.writeBytes(entry.getBytes(StandardCharsets.UTF_8)));
+
+        byte[] all = out.toByteArray();
+        int start = Math.max(0, all.length - MAX_DICTIONARY_SIZE);
+        return new CompressionDictionary(Arrays.copyOfRange(all, start, all.length));
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    public long fingerprint() {
+        return fingerprint;
+    }
+}
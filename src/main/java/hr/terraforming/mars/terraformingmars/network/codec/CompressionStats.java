@@ -0,0 +1,54 @@
+package hr.terraforming.mars.terraformingmars.network.codec;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CompressionStats {
+
+    private final LongAdder framesCompressed = new LongAdder();
+    private final LongAdder rawBytesOut = new LongAdder();
+    private final LongAdder compressedBytesOut = new LongAdder();
+    private final LongAdder compressNanos = new LongAdder();
+    private final LongAdder framesInflated = new LongAdder();
+    private final LongAdder compressedBytesIn = new LongAdder();
+    private final LongAdder rawBytesIn = new LongAdder();
+    private final LongAdder inflateNanos = new LongAdder();
+
+    void recordCompressed(int rawLength, int compressedLength, long nanos) {
+        framesCompressed.increment();
+        rawBytesOut.add(rawLength);
+        compressedBytesOut.add(compressedLength);
+        compressNanos.add(nanos);
+    }
+
+    void recordInflated(int compressedLength, int rawLength, long nanos) {
+        framesInflated.increment();
+        compressedBytesIn.add(compressedLength);
+        rawBytesIn.add(rawLength);
+        inflateNanos.add(nanos);
+    }
+
+    public double outboundRatio() {
+        long raw = rawBytesOut.sum();
+        return raw == 0 ? 1.0 : (double) compressedBytesOut.sum() / raw;
+    }
+
+    public double inboundRatio() {
+        long raw = rawBytesIn.sum();
+        return raw == 0 ? 1.0 : (double) compressedBytesIn.sum() / raw;
+    }
+
+    public long compressMicros() {
+        return compressNanos.sum() / 1_000;
+    }
+
+    public long inflateMicros() {
+        return inflateNanos.sum() / 1_000;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("out: %d frames, %d -> %d bytes (%.0f%%), %d us; in: %d frames, %d -> %d bytes (%.0f%%), %d us",
+                framesCompressed.sum(), rawBytesOut.sum(), compressedBytesOut.sum(), outboundRatio() * 100, compressMicros(),
+                framesInflated.sum(), compressedBytesIn.sum(), rawBytesIn.sum(), inboundRatio() * 100, inflateMicros());
+    }
+}
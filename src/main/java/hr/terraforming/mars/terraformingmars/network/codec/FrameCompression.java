@@ -0,0 +1,93 @@
+package hr.terraforming.mars.terraformingmars.network.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+public final class FrameCompression {
+
+    public static final byte COMPRESSED_MARKER = 0x7F;
+    public static final int MIN_COMPRESSED_SIZE = 256;
+
+    private static final int HEADER_SIZE = 1 + Integer.BYTES;
+    private static final int MAX_RAW_SIZE = 64 * 1024 * 1024;
+
+    private static final ThreadLocal<Deflater> DEFLATERS = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(Inflater::new);
+
+    private FrameCompression() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static boolean isCompressed(byte[] payload) {
+        return payload.length > HEADER_SIZE && payload[0] == COMPRESSED_MARKER;
+    }
+
+    public static byte[] compress(byte[] payload, CompressionDictionary dictionary, CompressionStats stats) {
+        if (payload.length < MIN_COMPRESSED_SIZE) {
+            return payload;
+        }
+
+        long start = System.nanoTime();
+        Deflater deflater = DEFLATERS.get();
+        deflater.reset();
+        deflater.setDictionary(dictionary.bytes());
+        deflater.setInput(payload);
+        deflater.finish();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2 + HEADER_SIZE);
+        out.write(COMPRESSED_MARKER);
+        out.writeBytes(ByteBuffer.allocate(Integer.BYTES).putInt(payload.length).array());
+
+        byte[] chunk = new byte[Math.min(payload.length, 16 * 1024)];
+        while (!deflater.finished()) {
+            int written = deflater.deflate(chunk);
+            out.write(chunk, 0, written);
+        }
+
+        byte[] compressed = out.toByteArray();
+        byte[] result = compressed.length < payload.length ? compressed : payload;
+        stats.recordCompressed(payload.length, result.length, System.nanoTime() - start);
+
+        return result;
+    }
+
+    public static byte[] decompress(byte[] payload, CompressionDictionary dictionary, CompressionStats stats)
+            throws StreamCorruptedException {
+        long start = System.nanoTime();
+        int rawLength = ByteBuffer.wrap(payload, 1, Integer.BYTES).getInt();
+        if (rawLength < 0 || rawLength > MAX_RAW_SIZE) {
+            throw new StreamCorruptedException("Invalid decompressed frame length: " + rawLength);
+        }
+
+        Inflater inflater = INFLATERS.get();
+        inflater.reset();
+        inflater.setInput(payload, HEADER_SIZE, payload.length - HEADER_SIZE);
+
+        byte[] raw = new byte[rawLength];
+        int offset = 0;
+        try {
+            while (offset < rawLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, offset, rawLength - offset);
+                if (read == 0 && inflater.needsDictionary()) {
+                    inflater.setDictionary(dictionary.bytes());
+                } else if (read == 0 && inflater.needsInput()) {
+                    break;
+                }
+                offset += read;
+            }
+        } catch (DataFormatException e) {
+            throw new StreamCorruptedException("Corrupt compressed frame: " + e.getMessage());
+        }
+
+        if (offset != rawLength) {
+            throw new StreamCorruptedException("Truncated compressed frame");
+        }
+
+        stats.recordInflated(payload.length, rawLength, System.nanoTime() - start);
+        return raw;
+    }
+}
@@ -0,0 +1,50 @@
+package hr.terraforming.mars.terraformingmars.network.codec;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+public enum MessageType {
+    PROTOCOL_HELLO(1),
+    PLAYER_NAME(2),
+    JOIN_ROOM(3),
+    JOIN_REJECTED(4),
+    CORPORATION_OFFER(5),
+    CORPORATION_CHOICE(6),
+    CARD_OFFER(7),
+    CARD_CHOICE(8),
+    GAME_MOVE(9),
+    STATE_DELTA(10),
+    STATE_ACK(11),
+    PRODUCTION_PHASE(12),
+    FINAL_GREENERY_OFFER(13),
+    GAME_OVER(14),
+    SESSION_TOKEN(15),
+    RESUME_SESSION(16),
+    PING(17),
+    PONG(18),
+    SPECTATE(19),
+    MOVE_ACK(20),
+    STATE_SNAPSHOT(21),
+    GAME_STATE(22);
+
+    private static final MessageType[] BY_CODE = new MessageType[Arrays.stream(values())
+            .mapToInt(MessageType::getCode).max().orElse(0) + 1];
+
+    static {
+        for (MessageType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    @Getter
+    private final int code;
+
+    MessageType(int code) {
+        this.code = code;
+    }
+
+    public static MessageType fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,60 @@
+package hr.terraforming.mars.terraformingmars.network.codec;
+
+import hr.terraforming.mars.terraformingmars.factory.CardFactory;
+import hr.terraforming.mars.terraformingmars.factory.CorporationFactory;
+import hr.terraforming.mars.terraformingmars.model.Card;
+import hr.terraforming.mars.terraformingmars.model.Corporation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+
+public final class NameCatalog {
+
+    static final int NULL_NAME = 0;
+    static final int LITERAL_NAME = 1;
+    static final int FIRST_ID = 2;
+    static final int UNKNOWN_ID = -1;
+
+    public static final NameCatalog EMPTY = new NameCatalog(List.of());
+
+    private final List<String> names;
+    private final Map<String, Integer> ids;
+    private final long fingerprint;
+
+    private NameCatalog(List<String> names) {
+        this.names = List.copyOf(names);
+        this.ids = new HashMap<>(names.size() * 2);
+
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < names.size(); i++) {
+            ids.put(names.get(i), i);
+            crc.update(names.get(i).getBytes(StandardCharsets.UTF_8));
+            crc.update(0);
+        }
+        this.fingerprint = crc.getValue();
+    }
+
+    public static NameCatalog fromGameData() {
+        SortedSet<String> sorted = new TreeSet<>();
+        CardFactory.getAllCards().stream().map(Card::getName).forEach(sorted::add);
+        CorporationFactory.getAllCorporations().stream().map(Corporation::name).forEach(sorted::add);
+        return new NameCatalog(new ArrayList<>(sorted));
+    }
+
+    public int idOf(String name) {
+        return ids.getOrDefault(name, UNKNOWN_ID);
+    }
+
+    public String nameOf(int id) {
+        return id >= 0 && id < names.size() ? names.get(id) : null;
+    }
+
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    public int size() {
+        return names.size();
+    }
+}
@@ -0,0 +1,131 @@
+package hr.terraforming.mars.terraformingmars.network.codec;
+
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WireReader {
+
+    private final NameCatalog catalog;
+    private final byte[] buffer;
+    private int position;
+
+    public WireReader(NameCatalog catalog, byte[] buffer, int offset) {
+        this.catalog = catalog;
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() throws StreamCorruptedException {
+        if (position >= buffer.length) {
+            throw new StreamCorruptedException("Unexpected end of binary frame");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() throws StreamCorruptedException {
+        return readByte() != 0;
+    }
+
+    public int readVarInt() throws StreamCorruptedException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed varint");
+    }
+
+    public long readVarLong() throws StreamCorruptedException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed varlong");
+    }
+
+    public int readSignedInt() throws StreamCorruptedException {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public long readSignedLong() throws StreamCorruptedException {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public Integer readOptionalInt() throws StreamCorruptedException {
+        return readBoolean() ? readSignedInt() : null;
+    }
+
+    public String readString() throws StreamCorruptedException {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+
+        length--;
+        if (length < 0 || length > buffer.length - position) {
+            throw new StreamCorruptedException("Invalid string length: " + length);
+        }
+
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public String readName() throws StreamCorruptedException {
+        int code = readVarInt();
+        return switch (code) {
+            case NameCatalog.NULL_NAME -> null;
+            case NameCatalog.LITERAL_NAME -> readString();
+            default -> {
+                String name = catalog.nameOf(code - NameCatalog.FIRST_ID);
+                if (name == null) {
+                    throw new StreamCorruptedException("Unknown catalog id: " + code);
+                }
+                yield name;
+            }
+        };
+    }
+
+    public List<String> readNames() throws StreamCorruptedException {
+        int count = readCount();
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(readName());
+        }
+        return names;
+    }
+
+    public <E extends Enum<E>> E readEnum(E[] values) throws StreamCorruptedException {
+        int code = readVarInt();
+        if (code == 0) {
+            return null;
+        }
+        if (code > values.length) {
+            throw new StreamCorruptedException("Unknown enum ordinal: " + (code - 1));
+        }
+        return values[code - 1];
+    }
+
+    public int readCount() throws StreamCorruptedException {
+        int count = readVarInt();
+        if (count < 0 || count > buffer.length - position) {
+            throw new StreamCorruptedException("Invalid element count: " + count);
+        }
+        return count;
+    }
+
+    public boolean hasRemaining() {
+        return position < buffer.length;
+    }
+}
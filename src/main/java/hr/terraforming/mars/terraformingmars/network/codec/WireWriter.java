@@ -0,0 +1,109 @@
+package hr.terraforming.mars.terraformingmars.network.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+
+public class WireWriter {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final NameCatalog catalog;
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    public WireWriter(NameCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    public WireWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    public WireWriter writeBoolean(boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    public WireWriter writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    public WireWriter writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    public WireWriter writeSignedInt(int value) {
+        return writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public WireWriter writeSignedLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public WireWriter writeOptionalInt(Integer value) {
+        if (value == null) {
+            return writeBoolean(false);
+        }
+        return writeBoolean(true).writeSignedInt(value);
+    }
+
+    public WireWriter writeString(String value) {
+        if (value == null) {
+            return writeVarInt(0);
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    public WireWriter writeName(String name) {
+        if (name == null) {
+            return writeVarInt(NameCatalog.NULL_NAME);
+        }
+
+        int id = catalog.idOf(name);
+        if (id == NameCatalog.UNKNOWN_ID) {
+            writeVarInt(NameCatalog.LITERAL_NAME);
+            return writeString(name);
+        }
+        return writeVarInt(id + NameCatalog.FIRST_ID);
+    }
+
+    public WireWriter writeNames(Collection<String> names) {
+        writeVarInt(names.size());
+        names.forEach(this::writeName);
+        return this;
+    }
+
+    public WireWriter writeEnum(Enum<?> value) {
+        return writeVarInt(value == null ? 0 : value.ordinal() + 1);
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package hr.terraforming.mars.terraformingmars.network.host;
+
+import hr.terraforming.mars.terraformingmars.config.ResourceConfig;
+import hr.terraforming.mars.terraformingmars.factory.CardFactory;
+import hr.terraforming.mars.terraformingmars.model.GameBoard;
+import hr.terraforming.mars.terraformingmars.model.GameManager;
+import hr.terraforming.mars.terraformingmars.model.Player;
+import hr.terraforming.mars.terraformingmars.network.GameLoop;
+import hr.terraforming.mars.terraformingmars.network.GameServerThread;
+import hr.terraforming.mars.terraformingmars.network.message.JoinRejectedMessage;
+import hr.terraforming.mars.terraformingmars.network.message.JoinRoomMessage;
+import hr.terraforming.mars.terraformingmars.network.message.SpectateMessage;
+import hr.terraforming.mars.terraformingmars.network.transport.ConnectionListener;
+import hr.terraforming.mars.terraformingmars.network.transport.HeartbeatSettings;
+import hr.terraforming.mars.terraformingmars.network.transport.NioConnection;
+import hr.terraforming.mars.terraformingmars.network.transport.NioServer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class GameHostService {
+
+    private static final int DEFAULT_ROOMS = 1;
+    private static final int DEFAULT_PLAYERS_PER_ROOM = 2;
+
+    @Getter
+    private final RoomRegistry registry = new RoomRegistry();
+    private final NioServer server;
+    private final HeartbeatSettings heartbeatSettings = HeartbeatSettings.fromConfiguration();
+
+    public GameHostService(int port, int eventLoopCount) {
+        this.server = new NioServer(port, eventLoopCount, _ -> new LobbyListener());
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            log.error("Usage: GameHostService <port> [rooms] [playersPerRoom]");
+            return;
+        }
+
+        ResourceConfig config = new ResourceConfig(
+                "/hr/terraforming/mars/terraformingmars/",
+                "/hr/terraforming/mars/terraformingmars/css/styles.css",
+                "/hr/terraforming/mars/terraformingmars/data/cards.json"
+        );
+        CardFactory.setConfig(config);
+        CardFactory.loadAllCards();
+
+        int port = Integer.parseInt(args[0]);
+        int rooms = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROOMS;
+        int playersPerRoom = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PLAYERS_PER_ROOM;
+
+        GameHostService host = new GameHostService(port, NioServer.defaultEventLoopCount());
+        host.start();
+        for (int i = 0; i < rooms; i++) {
+            host.createRoom(playersPerRoom);
+        }
+        log.info("Hosting {} rooms on port {}", rooms, port);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public GameRoom createRoom(int playerCount) {
+        GameRoom room = registry.register(roomId -> {
+            List<Player> players = new ArrayList<>();
+            for (int i = 1; i <= playerCount; i++) {
+                players.add(new Player("Player " + i, i));
+            }
+
+            GameBoard gameBoard = new GameBoard();
+            GameManager gameManager = new GameManager(players, gameBoard);
+            gameManager.shuffleCorporations();
+            gameManager.shuffleCards();
+
+            GameServerThread session = new GameServerThread(gameManager, gameBoard, null, playerCount, null,
+                    new GameLoop("room-" + roomId));
+            RoomRules rules = new RoomRules(roomId, gameManager, gameBoard, session);
+            session.setHeadlessMoveProcessor(rules);
+            session.setOnStateBroadcast(rules::onStateBroadcast);
+            session.startHeartbeat();
+            return new GameRoom(roomId, gameManager, gameBoard, session, new AtomicInteger());
+        });
+
+        log.info("Created room {} for {} players ({} rooms active)", room.roomId(), playerCount, registry.size());
+        return room;
+    }
+
+    public Optional<GameRoom> findRoom(String roomId) {
+        return registry.find(roomId);
+    }
+
+    public void closeRoom(String roomId) {
+        registry.remove(roomId).ifPresent(room -> {
+            room.session().shutdown();
+            log.info("Closed room {}", roomId);
+        });
+    }
+
+    public void shutdown() {
+        registry.getRooms().forEach(room -> closeRoom(room.roomId()));
+        server.shutdown();
+    }
+
+    private class LobbyListener implements ConnectionListener {
+
+        private volatile boolean joined;
+
+        @Override
+        public void onOpen(NioConnection connection) {
+            connection.schedule(() -> {
+                if (!joined && connection.isOpen()) {
+                    log.warn("Connection {} did not join a room within the handshake timeout", connection.getId());
+                    connection.close();
+                }
+            }, heartbeatSettings.handshakeTimeoutMillis());
+        }
+
+        @Override
+        public void onMessage(NioConnection connection, Object message) {
+            boolean spectating = message instanceof SpectateMessage;
+            String roomId = switch (message) {
+                case JoinRoomMessage msg -> msg.roomId();
+                case SpectateMessage msg -> msg.roomId();
+                default -> null;
+            };
+
+            if (roomId == null) {
+                reject(connection, null, "First message must be a room join request");
+                return;
+            }
+
+            Optional<GameRoom> room = registry.find(roomId);
+            if (room.isEmpty()) {
+                reject(connection, roomId, "Room not found");
+                return;
+            }
+
+            GameServerThread session = room.get().session();
+            if (!spectating && session.isFull()) {
+                reject(connection, roomId, "Room is full");
+                return;
+            }
+
+            ConnectionListener roomListener = spectating
+                    ? session.attachSpectator(connection)
+                    : session.attach(connection);
+            if (roomListener == null) {
+                reject(connection, roomId, "Room is closed");
+                return;
+            }
+
+            joined = true;
+            log.info("Connection {} joined room {}{}", connection.getId(), roomId, spectating ? " as a spectator" : "");
+            connection.rebind(new RoomConnection(room.get(), roomListener));
+        }
+
+        private void reject(NioConnection connection, String roomId, String reason) {
+            log.warn("Rejecting connection {} for room {}: {}", connection.getId(), roomId, reason);
+            connection.send(new JoinRejectedMessage(roomId, reason));
+            connection.close();
+        }
+    }
+
+    private class RoomConnection implements ConnectionListener {
+
+        private final GameRoom room;
+        private final ConnectionListener delegate;
+
+        RoomConnection(GameRoom room, ConnectionListener delegate) {
+            this.room = room;
+            this.delegate = delegate;
+            room.connections().incrementAndGet();
+        }
+
+        @Override
+        public void onOpen(NioConnection connection) {
+            delegate.onOpen(connection);
+        }
+
+        @Override
+        public void onMessage(NioConnection connection, Object message) {
+            delegate.onMessage(connection, message);
+        }
+
+        @Override
+        public void onDrained(NioConnection connection) {
+            delegate.onDrained(connection);
+        }
+
+        @Override
+        public void onClose(NioConnection connection) {
+            delegate.onClose(connection);
+            if (room.connections().decrementAndGet() == 0) {
+                log.info("Last connection left room {}", room.roomId());
+                closeRoom(room.roomId());
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package hr.terraforming.mars.terraformingmars.network.host;
+
+import hr.terraforming.mars.terraformingmars.model.GameBoard;
+import hr.terraforming.mars.terraformingmars.model.GameManager;
+import hr.terraforming.mars.terraformingmars.network.GameServerThread;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public record GameRoom(String roomId, GameManager gameManager, GameBoard gameBoard, GameServerThread session,
+                       AtomicInteger connections) {
+}
@@ -0,0 +1,59 @@
+package hr.terraforming.mars.terraformingmars.network.host;
+
+import hr.terraforming.mars.terraformingmars.exception.GameStateException;
+
+import java.security.SecureRandom;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public class RoomRegistry {
+
+    private static final String ROOM_ID_ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+    private static final int ROOM_ID_LENGTH = 6;
+    private static final int MAX_ID_ATTEMPTS = 100;
+
+    private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
+    private final SecureRandom random = new SecureRandom();
+
+    public GameRoom register(Function<String, GameRoom> roomFactory) {
+        for (int attempt = 0; attempt < MAX_ID_ATTEMPTS; attempt++) {
+            String roomId = nextRoomId();
+            GameRoom[] created = new GameRoom[1];
+
+            rooms.computeIfAbsent(roomId, id -> created[0] = roomFactory.apply(id));
+
+            if (created[0] != null) {
+                return created[0];
+            }
+        }
+        throw new GameStateException("Could not allocate a unique room id");
+    }
+
+    public Optional<GameRoom> find(String roomId) {
+        return roomId == null ? Optional.empty() : Optional.ofNullable(rooms.get(roomId.toUpperCase()));
+    }
+
+    public Optional<GameRoom> remove(String roomId) {
+        return Optional.ofNullable(rooms.remove(roomId));
+    }
+
+    public Collection<GameRoom> getRooms() {
+        return Collections.unmodifiableCollection(rooms.values());
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    private String nextRoomId() {
+        StringBuilder id = new StringBuilder(ROOM_ID_LENGTH);
+        for (int i = 0; i < ROOM_ID_LENGTH; i++) {
+            id.append(ROOM_ID_ALPHABET.charAt(random.nextInt(ROOM_ID_ALPHABET.length())));
+        }
+        return id.toString();
+    }
+}
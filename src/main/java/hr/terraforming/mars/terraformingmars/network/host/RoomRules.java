@@ -0,0 +1,95 @@
+package hr.terraforming.mars.terraformingmars.network.host;
+
+import hr.terraforming.mars.terraformingmars.enums.GamePhase;
+import hr.terraforming.mars.terraformingmars.model.GameBoard;
+import hr.terraforming.mars.terraformingmars.model.GameManager;
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import hr.terraforming.mars.terraformingmars.model.Player;
+import hr.terraforming.mars.terraformingmars.network.GameServerThread;
+import hr.terraforming.mars.terraformingmars.network.message.GameOverMessage;
+import hr.terraforming.mars.terraformingmars.service.MoveRulesService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+@Slf4j
+class RoomRules implements Consumer<GameMove> {
+
+    private static final int ACTIONS_PER_TURN = 2;
+    private static final String OPEN_SEAT_PREFIX = "Player ";
+
+    private final String roomId;
+    private final GameManager gameManager;
+    private final GameBoard gameBoard;
+    private final GameServerThread session;
+    private boolean corporationsOffered;
+    private boolean cardsOffered;
+    private boolean gameOver;
+
+    RoomRules(String roomId, GameManager gameManager, GameBoard gameBoard, GameServerThread session) {
+        this.roomId = roomId;
+        this.gameManager = gameManager;
+        this.gameBoard = gameBoard;
+        this.session = session;
+    }
+
+    @Override
+    public void accept(GameMove move) {
+        if (gameOver) {
+            log.debug("Room {} is over, ignoring {}", roomId, move.actionType());
+            return;
+        }
+
+        switch (move.actionType()) {
+            case PASS_TURN, AUTO_PASS -> passTurn();
+            default -> {
+                MoveRulesService.apply(move, gameManager, gameBoard);
+                if (gameManager.getCurrentPhase() == GamePhase.ACTIONS
+                        && gameManager.getActionsTakenThisTurn() >= ACTIONS_PER_TURN) {
+                    passTurn();
+                }
+            }
+        }
+    }
+
+    void onStateBroadcast() {
+        List<Player> players = gameManager.getPlayers();
+
+        if (!corporationsOffered && players.stream().noneMatch(player -> player.getName().startsWith(OPEN_SEAT_PREFIX))) {
+            corporationsOffered = true;
+            log.info("Room {} is full, offering corporations", roomId);
+            session.distributeInitialCorporations();
+        } else if (corporationsOffered && !cardsOffered && players.stream().allMatch(player -> player.getCorporation() != null)) {
+            cardsOffered = true;
+            session.distributeInitialCards();
+        } else if (gameManager.getGeneration() > 0 && gameManager.getCurrentPhase() == GamePhase.RESEARCH
+                && gameManager.getCurrentDraftPlayer() == null) {
+            log.debug("Room {} finished research for generation {}", roomId, gameManager.getGeneration());
+            gameManager.beginActionPhase();
+            session.broadcastCurrentState();
+        }
+    }
+
+    private void passTurn() {
+        if (gameManager.getCurrentPhase() != GamePhase.ACTIONS || !gameManager.passTurn()) {
+            return;
+        }
+
+        gameManager.doProduction();
+
+        if (gameBoard.isFinalGeneration()) {
+            gameOver = true;
+            List<Player> rankedPlayers = gameManager.calculateFinalScores();
+            log.info("Room {} finished, winner {}", roomId, rankedPlayers.getFirst().getName());
+            session.broadcastCurrentState();
+            session.broadcastToAll(new GameOverMessage());
+            return;
+        }
+
+        gameManager.rotateFirstPlayer();
+        gameManager.startNewGeneration();
+        gameManager.resetDraftPhase();
+        session.distributeResearchCards();
+    }
+}
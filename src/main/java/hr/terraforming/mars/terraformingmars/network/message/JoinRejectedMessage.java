@@ -0,0 +1,5 @@
+package hr.terraforming.mars.terraformingmars.network.message;
+
+import java.io.Serializable;
+
+public record JoinRejectedMessage(String roomId, String reason) implements Serializable {}
@@ -0,0 +1,5 @@
+package hr.terraforming.mars.terraformingmars.network.message;
+
+import java.io.Serializable;
+
+public record PingMessage(long timestamp) implements Serializable {}
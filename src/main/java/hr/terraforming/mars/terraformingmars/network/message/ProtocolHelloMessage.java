@@ -0,0 +1,6 @@
+package hr.terraforming.mars.terraformingmars.network.message;
+
+import java.io.Serializable;
+
+public record ProtocolHelloMessage(int protocolVersion, long catalogFingerprint, boolean compression,
+                                   long dictionaryFingerprint) implements Serializable {}
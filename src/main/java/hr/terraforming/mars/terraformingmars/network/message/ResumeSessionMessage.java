@@ -0,0 +1,5 @@
+package hr.terraforming.mars.terraformingmars.network.message;
+
+import java.io.Serializable;
+
+public record ResumeSessionMessage(String token, long lastSequence) implements Serializable {}
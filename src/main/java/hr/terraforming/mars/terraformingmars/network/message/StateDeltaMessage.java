@@ -0,0 +1,7 @@
+package hr.terraforming.mars.terraformingmars.network.message;
+
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateDelta;
+
+import java.io.Serializable;
+
+public record StateDeltaMessage(GameStateDelta delta) implements Serializable {}
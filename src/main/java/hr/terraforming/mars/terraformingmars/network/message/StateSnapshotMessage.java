@@ -0,0 +1,7 @@
+package hr.terraforming.mars.terraformingmars.network.message;
+
+import hr.terraforming.mars.terraformingmars.model.GameState;
+
+import java.io.Serializable;
+
+public record StateSnapshotMessage(long version, GameState state) implements Serializable {}
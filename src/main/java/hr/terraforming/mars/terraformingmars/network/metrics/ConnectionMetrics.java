@@ -0,0 +1,25 @@
+package hr.terraforming.mars.terraformingmars.network.metrics;
+
+import lombok.Getter;
+
+@Getter
+public class ConnectionMetrics {
+
+    private final LatencyHistogram roundTrip = new LatencyHistogram();
+    private final LatencyHistogram processing = new LatencyHistogram();
+    private volatile long lastRoundTripMicros;
+
+    public void recordRoundTrip(long nanos) {
+        roundTrip.recordNanos(nanos);
+        lastRoundTripMicros = nanos / 1_000;
+    }
+
+    public void recordProcessing(long nanos) {
+        processing.recordNanos(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "rtt[" + roundTrip + "], processing[" + processing + "]";
+    }
+}
@@ -0,0 +1,48 @@
+package hr.terraforming.mars.terraformingmars.network.session;
+
+import hr.terraforming.mars.terraformingmars.network.ClientHandler;
+import hr.terraforming.mars.terraformingmars.network.transport.SharedFrame;
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class PlayerSession {
+
+    @Getter
+    private final String token;
+    @Getter
+    private final String playerName;
+    @Getter
+    private final ReplayBuffer replayBuffer;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicReference<ClientHandler> owner = new AtomicReference<>();
+
+    PlayerSession(String token, String playerName, int replayCapacity) {
+        this.token = token;
+        this.playerName = playerName;
+        this.replayBuffer = new ReplayBuffer(replayCapacity);
+    }
+
+    public long nextSequence() {
+        return sequence.incrementAndGet();
+    }
+
+    public long retain(SharedFrame frame) {
+        long next = nextSequence();
+        replayBuffer.append(next, frame);
+        return next;
+    }
+
+    public ClientHandler attach(ClientHandler newOwner) {
+        return owner.getAndSet(newOwner);
+    }
+
+    public void detach(ClientHandler currentOwner) {
+        owner.compareAndSet(currentOwner, null);
+    }
+
+    public boolean isAttached() {
+        return owner.get() != null;
+    }
+}
@@ -0,0 +1,37 @@
+package hr.terraforming.mars.terraformingmars.network.session;
+
+import hr.terraforming.mars.terraformingmars.network.transport.SharedFrame;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+public class ReplayBuffer {
+
+    public record Entry(long sequence, SharedFrame frame) {}
+
+    private final int capacity;
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private long evictedUpTo = 0;
+
+    public ReplayBuffer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void append(long sequence, SharedFrame frame) {
+        entries.addLast(new Entry(sequence, frame));
+        while (entries.size() > capacity) {
+            evictedUpTo = entries.removeFirst().sequence();
+        }
+    }
+
+    public synchronized List<Entry> since(long lastSequence) {
+        return entries.stream()
+                .filter(entry -> entry.sequence() > lastSequence)
+                .toList();
+    }
+
+    public synchronized boolean covers(long lastSequence) {
+        return lastSequence >= evictedUpTo;
+    }
+}
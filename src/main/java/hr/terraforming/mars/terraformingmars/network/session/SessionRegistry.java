@@ -0,0 +1,62 @@
+package hr.terraforming.mars.terraformingmars.network.session;
+
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+
+@Slf4j
+public class SessionRegistry {
+
+    private final int replayCapacity;
+    private final int seats;
+    private final Map<String, PlayerSession> sessions = new ConcurrentHashMap<>();
+    @Setter
+    private IntConsumer onSeatsChanged;
+
+    public SessionRegistry(int replayCapacity, int seats) {
+        this.replayCapacity = replayCapacity;
+        this.seats = seats;
+    }
+
+    public synchronized Optional<PlayerSession> open(String playerName) {
+        sessions.values().removeIf(session -> session.getPlayerName().equals(playerName) && !session.isAttached());
+        if (sessions.size() >= seats) {
+            return Optional.empty();
+        }
+
+        PlayerSession session = new PlayerSession(UUID.randomUUID().toString(), playerName, replayCapacity);
+        sessions.put(session.getToken(), session);
+        log.debug("Opened session for {} ({}/{} seats taken)", playerName, sessions.size(), seats);
+
+        if (onSeatsChanged != null) {
+            onSeatsChanged.accept(sessions.size());
+        }
+        return Optional.of(session);
+    }
+
+    public Optional<PlayerSession> find(String token) {
+        return token == null ? Optional.empty() : Optional.ofNullable(sessions.get(token));
+    }
+
+    public Optional<PlayerSession> findByPlayerName(String playerName) {
+        return sessions.values().stream()
+                .filter(session -> session.getPlayerName().equals(playerName))
+                .findFirst();
+    }
+
+    public List<PlayerSession> detached() {
+        return sessions.values().stream()
+                .filter(session -> !session.isAttached())
+                .toList();
+    }
+
+    public void clear() {
+        sessions.clear();
+    }
+}
@@ -0,0 +1,51 @@
+package hr.terraforming.mars.terraformingmars.network.spectator;
+
+import hr.terraforming.mars.terraformingmars.network.message.PongMessage;
+import hr.terraforming.mars.terraformingmars.network.message.SpectateMessage;
+import hr.terraforming.mars.terraformingmars.network.message.StateAckMessage;
+import hr.terraforming.mars.terraformingmars.network.sync.StateHistory;
+import hr.terraforming.mars.terraformingmars.network.transport.ConnectionListener;
+import hr.terraforming.mars.terraformingmars.network.transport.NioConnection;
+import hr.terraforming.mars.terraformingmars.network.transport.SharedFrame;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class SpectatorConnection implements ConnectionListener {
+
+    private final NioConnection connection;
+    private final SpectatorHub hub;
+    boolean synced;
+
+    SpectatorConnection(NioConnection connection, SpectatorHub hub) {
+        this.connection = connection;
+        this.hub = hub;
+    }
+
+    @Override
+    public void onMessage(NioConnection source, Object message) {
+        switch (message) {
+            case StateAckMessage(long version) when version == StateHistory.NO_VERSION -> hub.resync(this);
+            case StateAckMessage _, PongMessage _, SpectateMessage _ -> { }
+            default -> log.warn("Spectator connection {} sent {}, spectators are read-only",
+                    connection.getId(), message.getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public void onClose(NioConnection source) {
+        log.info("Spectator {} disconnected", source.getId());
+        hub.remove(this);
+    }
+
+    NioConnection connection() {
+        return connection;
+    }
+
+    void send(SharedFrame frame) {
+        connection.send(frame);
+    }
+
+    void close() {
+        connection.close();
+    }
+}
@@ -0,0 +1,133 @@
+package hr.terraforming.mars.terraformingmars.network.spectator;
+
+import hr.terraforming.mars.terraformingmars.network.GameLoop;
+import hr.terraforming.mars.terraformingmars.network.message.PingMessage;
+import hr.terraforming.mars.terraformingmars.network.transport.ConnectionListener;
+import hr.terraforming.mars.terraformingmars.network.transport.HeartbeatSettings;
+import hr.terraforming.mars.terraformingmars.network.transport.LagPolicy;
+import hr.terraforming.mars.terraformingmars.network.transport.NioConnection;
+import hr.terraforming.mars.terraformingmars.network.transport.OutboundLimits;
+import hr.terraforming.mars.terraformingmars.network.transport.SharedFrame;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Slf4j
+public class SpectatorHub {
+
+    private final GameLoop fanout = new GameLoop("spectator-fanout");
+    private final List<SpectatorConnection> spectators = new ArrayList<>();
+    private final OutboundLimits limits;
+    private final Runnable onSnapshotNeeded;
+    private Supplier<SharedFrame> latestSnapshot;
+    private volatile boolean snapshotNeeded;
+
+    public SpectatorHub(Runnable onSnapshotNeeded) {
+        this.onSnapshotNeeded = onSnapshotNeeded;
+        OutboundLimits configured = OutboundLimits.fromConfiguration();
+        this.limits = new OutboundLimits(configured.maxQueuedFrames(), configured.maxQueuedBytes(),
+                configured.maxStateLag(), LagPolicy.DROP);
+        fanout.start();
+    }
+
+    public ConnectionListener attach(NioConnection connection) {
+        connection.setLimits(limits);
+        SpectatorConnection spectator = new SpectatorConnection(connection, this);
+
+        fanout.execute(() -> {
+            spectators.add(spectator);
+            sendSnapshot(spectator);
+            requestSnapshotIfUnsynced();
+            log.info("Spectator {} joined ({} watching)", connection.getId(), spectators.size());
+        });
+        return spectator;
+    }
+
+    public void execute(Runnable task) {
+        fanout.execute(task);
+    }
+
+    public boolean needsSnapshot() {
+        return snapshotNeeded;
+    }
+
+    public void publishState(Supplier<SharedFrame> snapshotFrame, Supplier<SharedFrame> deltaFromPrevious) {
+        fanout.execute(() -> {
+            latestSnapshot = snapshotFrame;
+            SharedFrame delta = null;
+
+            for (SpectatorConnection spectator : spectators) {
+                if (spectator.synced && deltaFromPrevious != null) {
+                    if (delta == null) {
+                        delta = deltaFromPrevious.get();
+                    }
+                    spectator.send(delta);
+                } else {
+                    sendSnapshot(spectator);
+                }
+            }
+            requestSnapshotIfUnsynced();
+        });
+    }
+
+    public void publish(SharedFrame frame) {
+        fanout.execute(() -> spectators.forEach(spectator -> spectator.send(frame)));
+    }
+
+    public void heartbeat(HeartbeatSettings settings) {
+        fanout.execute(() -> {
+            SharedFrame ping = new SharedFrame(new PingMessage(System.nanoTime()));
+
+            for (SpectatorConnection spectator : List.copyOf(spectators)) {
+                if (spectator.connection().getIdleMillis() > settings.idleTimeoutMillis()) {
+                    log.warn("No traffic from spectator {}, closing connection", spectator.connection().getId());
+                    spectator.close();
+                } else {
+                    spectator.send(ping);
+                }
+            }
+        });
+    }
+
+    void resync(SpectatorConnection spectator) {
+        fanout.execute(() -> {
+            log.debug("Spectator {} requested a full state resync", spectator.connection().getId());
+            sendSnapshot(spectator);
+            requestSnapshotIfUnsynced();
+        });
+    }
+
+    void remove(SpectatorConnection spectator) {
+        fanout.execute(() -> spectators.remove(spectator));
+    }
+
+    private void sendSnapshot(SpectatorConnection spectator) {
+        if (latestSnapshot == null) {
+            spectator.synced = false;
+            return;
+        }
+
+        spectator.send(latestSnapshot.get());
+        spectator.synced = true;
+    }
+
+    private void requestSnapshotIfUnsynced() {
+        boolean unsynced = spectators.stream().anyMatch(spectator -> !spectator.synced);
+        if (unsynced && !snapshotNeeded) {
+            snapshotNeeded = true;
+            onSnapshotNeeded.run();
+        } else if (!unsynced) {
+            snapshotNeeded = false;
+        }
+    }
+
+    public void shutdown() {
+        fanout.execute(() -> {
+            List.copyOf(spectators).forEach(SpectatorConnection::close);
+            spectators.clear();
+            fanout.shutdown();
+        });
+    }
+}
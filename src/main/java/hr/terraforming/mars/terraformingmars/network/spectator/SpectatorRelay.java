@@ -0,0 +1,213 @@
+package hr.terraforming.mars.terraformingmars.network.spectator;
+
+import hr.terraforming.mars.terraformingmars.config.ResourceConfig;
+import hr.terraforming.mars.terraformingmars.factory.CardFactory;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationKey;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationReader;
+import hr.terraforming.mars.terraformingmars.model.GameState;
+import hr.terraforming.mars.terraformingmars.network.codec.BinaryMessageCodec;
+import hr.terraforming.mars.terraformingmars.network.message.*;
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateDelta;
+import hr.terraforming.mars.terraformingmars.network.sync.StateHistory;
+import hr.terraforming.mars.terraformingmars.network.transport.FrameCodec;
+import hr.terraforming.mars.terraformingmars.network.transport.HeartbeatSettings;
+import hr.terraforming.mars.terraformingmars.network.transport.NioServer;
+import hr.terraforming.mars.terraformingmars.network.transport.SharedFrame;
+import hr.terraforming.mars.terraformingmars.util.GameStateUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.Socket;
+
+@Slf4j
+public class SpectatorRelay implements Runnable {
+
+    private static final long RECONNECT_DELAY_MS = 2_000;
+
+    private final String upstreamHost;
+    private final int upstreamPort;
+    private final String roomId;
+    private final int listenPort;
+    private final SpectatorHub hub = new SpectatorHub(this::requestResync);
+    private final HeartbeatSettings heartbeatSettings = HeartbeatSettings.fromConfiguration();
+    private NioServer downstream;
+    private DataOutputStream upstreamOutput;
+    private volatile BinaryMessageCodec codec;
+    private volatile boolean running = true;
+    private GameState state;
+    private long version = StateHistory.NO_VERSION;
+
+    public SpectatorRelay(String upstreamHost, int upstreamPort, String roomId, int listenPort) {
+        this.upstreamHost = upstreamHost;
+        this.upstreamPort = upstreamPort;
+        this.roomId = roomId;
+        this.listenPort = listenPort;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            log.error("Usage: SpectatorRelay <listenPort> [upstreamHost] [upstreamPort] [roomId]");
+            return;
+        }
+
+        ResourceConfig config = new ResourceConfig(
+                "/hr/terraforming/mars/terraformingmars/",
+                "/hr/terraforming/mars/terraformingmars/css/styles.css",
+                "/hr/terraforming/mars/terraformingmars/data/cards.json"
+        );
+        CardFactory.setConfig(config);
+        CardFactory.loadAllCards();
+
+        int listenPort = Integer.parseInt(args[0]);
+        String upstreamHost = args.length > 1 ? args[1] : ConfigurationReader.getStringValue(ConfigurationKey.HOSTNAME);
+        int upstreamPort = args.length > 2 ? Integer.parseInt(args[2])
+                : ConfigurationReader.getIntegerValue(ConfigurationKey.SPECTATOR_PORT);
+        String roomId = args.length > 3 ? args[3] : null;
+
+        new SpectatorRelay(upstreamHost, upstreamPort, roomId, listenPort).run();
+    }
+
+    @Override
+    public void run() {
+        downstream = new NioServer(listenPort, NioServer.defaultEventLoopCount(), hub::attach);
+        downstream.start();
+        log.info("Spectator relay listening on port {}, upstream {}:{}", listenPort, upstreamHost, upstreamPort);
+
+        while (running) {
+            try {
+                relayUpstream();
+            } catch (IOException e) {
+                log.warn("Upstream {}:{} lost ({}), reconnecting in {} ms",
+                        upstreamHost, upstreamPort, e.getMessage(), RECONNECT_DELAY_MS);
+            }
+
+            if (!sleepBeforeReconnect()) {
+                break;
+            }
+        }
+    }
+
+    private void relayUpstream() throws IOException {
+        try (Socket socket = new Socket(upstreamHost, upstreamPort);
+             DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+             DataInputStream inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(heartbeatSettings.idleTimeoutMillis());
+            upstreamOutput = outputStream;
+            codec = null;
+
+            sendUpstream(BinaryMessageCodec.localHello());
+            sendUpstream(new SpectateMessage(roomId));
+
+            while (running) {
+                Object message = FrameCodec.readMessage(inputStream, codec);
+                if (message instanceof FrameCodec.Sequenced(long _, Object inner)) {
+                    message = inner;
+                }
+                handleUpstream(message);
+            }
+        }
+    }
+
+    private void handleUpstream(Object message) throws IOException {
+        switch (message) {
+            case ProtocolHelloMessage msg -> codec = BinaryMessageCodec.negotiate(msg).orElse(null);
+            case PingMessage msg -> {
+                sendUpstream(new PongMessage(msg.timestamp()));
+                hub.heartbeat(heartbeatSettings);
+            }
+            case StateSnapshotMessage msg -> hub.execute(() -> applySnapshot(msg));
+            case StateDeltaMessage msg -> hub.execute(() -> applyDelta(msg));
+            case JoinRejectedMessage msg -> {
+                log.error("Upstream rejected relay for room {}: {}", msg.roomId(), msg.reason());
+                running = false;
+            }
+            default -> hub.publish(new SharedFrame(message));
+        }
+    }
+
+    private void applySnapshot(StateSnapshotMessage msg) {
+        try {
+            state = GameStateUtils.copyOf(msg.state());
+        } catch (IOException e) {
+            log.error("Failed to copy upstream snapshot v{}", msg.version(), e);
+            state = null;
+            version = StateHistory.NO_VERSION;
+            return;
+        }
+
+        version = msg.version();
+        SharedFrame snapshot = new SharedFrame(msg);
+        hub.publishState(() -> snapshot, null);
+    }
+
+    private void applyDelta(StateDeltaMessage msg) {
+        GameStateDelta delta = msg.delta();
+
+        if (state == null || delta.baseVersion() != version) {
+            log.warn("Relay state gap (have v{}, delta based on v{}), requesting resync", version, delta.baseVersion());
+            version = StateHistory.NO_VERSION;
+            requestResync();
+            return;
+        }
+
+        delta.applyTo(state);
+        if (!delta.matches(state)) {
+            log.warn("Relay state diverged from upstream at v{}, requesting resync", delta.version());
+            version = StateHistory.NO_VERSION;
+            requestResync();
+            return;
+        }
+
+        GameState published;
+        try {
+            published = GameStateUtils.copyOf(state);
+        } catch (IOException e) {
+            log.error("Failed to copy relay state v{}, requesting resync", delta.version(), e);
+            version = StateHistory.NO_VERSION;
+            requestResync();
+            return;
+        }
+
+        version = delta.version();
+        SharedFrame snapshot = new SharedFrame(new StateSnapshotMessage(version, published));
+        hub.publishState(() -> snapshot, () -> new SharedFrame(msg));
+    }
+
+    private void requestResync() {
+        try {
+            sendUpstream(new StateAckMessage(StateHistory.NO_VERSION));
+        } catch (IOException e) {
+            log.warn("Failed to request resync from upstream", e);
+        }
+    }
+
+    private synchronized void sendUpstream(Object message) throws IOException {
+        if (upstreamOutput != null) {
+            FrameCodec.writeMessage(upstreamOutput, message, codec);
+        }
+    }
+
+    private boolean sleepBeforeReconnect() {
+        if (!running) {
+            return false;
+        }
+
+        try {
+            Thread.sleep(RECONNECT_DELAY_MS);
+            return running;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        hub.shutdown();
+        if (downstream != null) {
+            downstream.shutdown();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package hr.terraforming.mars.terraformingmars.network.sync;
+
+import hr.terraforming.mars.terraformingmars.enums.Milestone;
+import hr.terraforming.mars.terraformingmars.model.GameBoard;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record BoardSnapshot(int oxygen, int temperature, int oceans, boolean finalGeneration,
+                            Map<Milestone, Integer> claimedMilestones) implements Serializable {
+
+    public static BoardSnapshot of(GameBoard gameBoard) {
+        Map<Milestone, Integer> milestones = new EnumMap<>(Milestone.class);
+        gameBoard.getClaimedMilestones().forEach((milestone, player) -> milestones.put(milestone, player.getPlayerNumber()));
+
+        return new BoardSnapshot(
+                gameBoard.getOxygenLevel(),
+                gameBoard.getTemperature(),
+                gameBoard.getOceansPlaced(),
+                gameBoard.isFinalGeneration(),
+                milestones
+        );
+    }
+}
@@ -0,0 +1,139 @@
+package hr.terraforming.mars.terraformingmars.network.sync;
+
+import hr.terraforming.mars.terraformingmars.enums.Milestone;
+import hr.terraforming.mars.terraformingmars.enums.ResourceType;
+import hr.terraforming.mars.terraformingmars.exception.GameStateException;
+import hr.terraforming.mars.terraformingmars.factory.CardFactory;
+import hr.terraforming.mars.terraformingmars.factory.CorporationFactory;
+import hr.terraforming.mars.terraformingmars.model.*;
+
+import java.io.Serializable;
+import java.util.*;
+
+public record GameStateDelta(long baseVersion, long version, TurnSnapshot turn, BoardSnapshot board,
+                             List<PlayerSnapshot> players, List<TileSnapshot> tiles, long checksum) implements Serializable {
+
+    public static GameStateDelta between(GameStateSnapshot base, GameStateSnapshot target) {
+        List<PlayerSnapshot> changedPlayers = target.players().stream()
+                .filter(player -> !base.players().contains(player))
+                .toList();
+
+        List<TileSnapshot> changedTiles = new ArrayList<>();
+        for (TileSnapshot tile : target.tiles()) {
+            if (tile.index() >= base.tiles().size() || !tile.equals(base.tiles().get(tile.index()))) {
+                changedTiles.add(tile);
+            }
+        }
+
+        return new GameStateDelta(
+                base.version(),
+                target.version(),
+                target.turn().equals(base.turn()) ? null : target.turn(),
+                target.board().equals(base.board()) ? null : target.board(),
+                changedPlayers,
+                List.copyOf(changedTiles),
+                StateChecksum.of(target)
+        );
+    }
+
+    public boolean isEmpty() {
+        return turn == null && board == null && players.isEmpty() && tiles.isEmpty();
+    }
+
+    public GameStateDelta projectedFor(StateProjection view) {
+        List<PlayerSnapshot> projected = players.stream()
+                .map(player -> view.canSeeHandOf(player.name()) ? player : player.withHiddenHand())
+                .toList();
+        return new GameStateDelta(baseVersion, version, turn, board, projected, tiles, checksum);
+    }
+
+    public boolean matches(GameState state) {
+        return checksum == StateChecksum.NO_CHECKSUM || checksum == StateChecksum.of(state);
+    }
+
+    public void applyTo(GameState state) {
+        GameManager gameManager = state.gameManager();
+        GameBoard gameBoard = state.gameBoard();
+
+        players.forEach(snapshot -> applyPlayer(snapshot, requirePlayer(gameManager, snapshot.playerNumber())));
+        tiles.forEach(snapshot -> applyTile(snapshot, gameManager, gameBoard));
+
+        if (board != null) {
+            applyBoard(board, gameManager, gameBoard);
+        }
+
+        if (turn != null) {
+            applyTurn(turn, gameManager);
+        }
+    }
+
+    private static void applyPlayer(PlayerSnapshot snapshot, Player player) {
+        player.setName(snapshot.name());
+        player.restoreCorporation(CorporationFactory.getCorporationByName(snapshot.corporationName()));
+        player.mcProperty().set(snapshot.mc());
+        player.trProperty().set(snapshot.tr());
+        player.tilePointsProperty().set(snapshot.tilePoints());
+
+        for (ResourceType type : ResourceType.values()) {
+            player.resourceProperty(type).set(snapshot.resources().getOrDefault(type, 0));
+            player.productionProperty(type).set(snapshot.production().getOrDefault(type, 0));
+        }
+
+        if (snapshot.isHandHidden()) {
+            player.hideHand(snapshot.handSize());
+        } else {
+            player.revealHand(toCards(snapshot.hand()));
+        }
+        replaceCards(player.getPlayed(), snapshot.played());
+
+        player.getClaimedMilestones().clear();
+        player.getClaimedMilestones().addAll(snapshot.milestones());
+    }
+
+    private static void replaceCards(List<Card> cards, List<String> cardNames) {
+        cards.clear();
+        cards.addAll(toCards(cardNames));
+    }
+
+    private static List<Card> toCards(List<String> cardNames) {
+        return cardNames.stream()
+                .map(CardFactory::getCardByName)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private static void applyTile(TileSnapshot snapshot, GameManager gameManager, GameBoard gameBoard) {
+        Tile tile = gameBoard.getTiles().get(snapshot.index());
+        tile.setType(snapshot.type());
+        tile.setOwner(snapshot.ownerNumber() == TileSnapshot.NO_OWNER
+                ? null
+                : requirePlayer(gameManager, snapshot.ownerNumber()));
+    }
+
+    private static void applyBoard(BoardSnapshot snapshot, GameManager gameManager, GameBoard gameBoard) {
+        Map<Milestone, Player> milestones = new EnumMap<>(Milestone.class);
+        snapshot.claimedMilestones().forEach((milestone, playerNumber) ->
+                milestones.put(milestone, requirePlayer(gameManager, playerNumber)));
+
+        gameBoard.restoreGlobalParameters(snapshot.oxygen(), snapshot.temperature(), snapshot.oceans(),
+                snapshot.finalGeneration(), milestones);
+    }
+
+    private static void applyTurn(TurnSnapshot snapshot, GameManager gameManager) {
+        gameManager.restoreProgress(snapshot.generation(), snapshot.phase(), snapshot.cardDraftPlayerIndex());
+        gameManager.restoreTurnState(
+                requirePlayer(gameManager, snapshot.currentPlayerNumber()),
+                gameManager.getPlayerByNumber(snapshot.firstPlayerNumber()),
+                snapshot.passedPlayerNumbers().stream().map(n -> requirePlayer(gameManager, n)).toList(),
+                snapshot.actionsTaken()
+        );
+    }
+
+    private static Player requirePlayer(GameManager gameManager, int playerNumber) {
+        Player player = gameManager.getPlayerByNumber(playerNumber);
+        if (player == null) {
+            throw new GameStateException("Cannot apply state delta: unknown player number " + playerNumber);
+        }
+        return player;
+    }
+}
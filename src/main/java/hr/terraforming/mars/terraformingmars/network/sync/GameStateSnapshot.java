@@ -0,0 +1,47 @@
+package hr.terraforming.mars.terraformingmars.network.sync;
+
+import hr.terraforming.mars.terraformingmars.model.GameBoard;
+import hr.terraforming.mars.terraformingmars.model.GameManager;
+import hr.terraforming.mars.terraformingmars.model.GameState;
+import hr.terraforming.mars.terraformingmars.model.Player;
+import hr.terraforming.mars.terraformingmars.model.Tile;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+public record GameStateSnapshot(long version, TurnSnapshot turn, BoardSnapshot board,
+                                List<PlayerSnapshot> players, List<TileSnapshot> tiles) implements Serializable {
+
+    public static GameStateSnapshot capture(long version, GameState state) {
+        List<PlayerSnapshot> players = state.gameManager().getPlayers().stream()
+                .map(PlayerSnapshot::of)
+                .toList();
+
+        List<Tile> boardTiles = state.gameBoard().getTiles();
+        List<TileSnapshot> tiles = new ArrayList<>(boardTiles.size());
+        for (int i = 0; i < boardTiles.size(); i++) {
+            tiles.add(TileSnapshot.of(i, boardTiles.get(i)));
+        }
+
+        return new GameStateSnapshot(
+                version,
+                TurnSnapshot.of(state.gameManager()),
+                BoardSnapshot.of(state.gameBoard()),
+                players,
+                List.copyOf(tiles)
+        );
+    }
+
+    public GameState restore() {
+        List<Player> restoredPlayers = players.stream()
+                .map(player -> new Player(player.name(), player.playerNumber()))
+                .toList();
+
+        GameBoard gameBoard = new GameBoard();
+        GameState state = new GameState(new GameManager(restoredPlayers, gameBoard), gameBoard);
+        new GameStateDelta(StateHistory.NO_VERSION, version, turn, board, players, tiles, StateChecksum.NO_CHECKSUM)
+                .applyTo(state);
+        return state;
+    }
+}
@@ -0,0 +1,86 @@
+package hr.terraforming.mars.terraformingmars.network.sync;
+
+import hr.terraforming.mars.terraformingmars.exception.GameStateException;
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import hr.terraforming.mars.terraformingmars.model.GameState;
+import hr.terraforming.mars.terraformingmars.service.MoveRulesService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+@Slf4j
+public class MovePredictor {
+
+    private final Deque<PendingMove> pending = new ArrayDeque<>();
+    private final Map<Long, Long> acknowledgedVersions = new HashMap<>();
+    private GameState state;
+    private GameStateSnapshot authoritative;
+
+    public synchronized void track(long sequence, GameMove move) {
+        pending.addLast(new PendingMove(sequence, move));
+    }
+
+    public synchronized void acknowledge(long sequence, long stateVersion) {
+        acknowledgedVersions.put(sequence, stateVersion);
+    }
+
+    public synchronized GameState currentState() {
+        return state;
+    }
+
+    public synchronized void rollback(GameState target) {
+        if (target != state || authoritative == null || pending.isEmpty()) {
+            return;
+        }
+
+        GameStateSnapshot predicted = GameStateSnapshot.capture(authoritative.version(), target);
+        GameStateDelta.between(predicted, authoritative).applyTo(target);
+    }
+
+    public synchronized void rebase(GameState target, long version) {
+        if (target != state) {
+            if (!pending.isEmpty()) {
+                log.debug("Discarding {} predicted moves on a new snapshot", pending.size());
+            }
+            pending.clear();
+            acknowledgedVersions.clear();
+            state = target;
+        }
+
+        long authoritativeVersion = version != StateHistory.NO_VERSION || authoritative == null
+                ? version
+                : authoritative.version();
+        authoritative = GameStateSnapshot.capture(authoritativeVersion, target);
+
+        pending.removeIf(move -> {
+            Long includedIn = acknowledgedVersions.get(move.sequence());
+            if (includedIn == null || authoritativeVersion < includedIn) {
+                return false;
+            }
+            acknowledgedVersions.remove(move.sequence());
+            return true;
+        });
+
+        pending.forEach(move -> predict(move.move(), target));
+    }
+
+    public synchronized void reset() {
+        pending.clear();
+        acknowledgedVersions.clear();
+        state = null;
+        authoritative = null;
+    }
+
+    private static void predict(GameMove move, GameState target) {
+        try {
+            MoveRulesService.apply(move, target.gameManager(), target.gameBoard());
+        } catch (GameStateException e) {
+            log.warn("Could not predict {} by {}: {}", move.actionType(), move.playerName(), e.getMessage());
+        }
+    }
+
+    private record PendingMove(long sequence, GameMove move) {}
+}
@@ -0,0 +1,54 @@
+package hr.terraforming.mars.terraformingmars.network.sync;
+
+import hr.terraforming.mars.terraformingmars.enums.Milestone;
+import hr.terraforming.mars.terraformingmars.enums.ResourceType;
+import hr.terraforming.mars.terraformingmars.model.Card;
+import hr.terraforming.mars.terraformingmars.model.Player;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public record PlayerSnapshot(int playerNumber, String name, String corporationName, int mc, int tr, int tilePoints,
+                             Map<ResourceType, Integer> resources, Map<ResourceType, Integer> production,
+                             List<String> hand, int handSize, List<String> played,
+                             List<Milestone> milestones) implements Serializable {
+
+    public static PlayerSnapshot of(Player player) {
+        Map<ResourceType, Integer> resources = new EnumMap<>(ResourceType.class);
+        Map<ResourceType, Integer> production = new EnumMap<>(ResourceType.class);
+
+        for (ResourceType type : ResourceType.values()) {
+            resources.put(type, player.resourceProperty(type).get());
+            production.put(type, player.productionProperty(type).get());
+        }
+
+        return new PlayerSnapshot(
+                player.getPlayerNumber(),
+                player.getName(),
+                player.getCorporation() != null ? player.getCorporation().name() : null,
+                player.getMC(),
+                player.getTR(),
+                player.getTilePoints(),
+                resources,
+                production,
+                player.getHand().stream().map(Card::getName).toList(),
+                player.getHandSize(),
+                player.getPlayed().stream().map(Card::getName).toList(),
+                List.copyOf(player.getClaimedMilestones())
+        );
+    }
+
+    public boolean isHandHidden() {
+        return hand.size() != handSize;
+    }
+
+    public PlayerSnapshot withHiddenHand() {
+        if (hand.isEmpty()) {
+            return this;
+        }
+        return new PlayerSnapshot(playerNumber, name, corporationName, mc, tr, tilePoints, resources, production,
+                List.of(), handSize, played, milestones);
+    }
+}
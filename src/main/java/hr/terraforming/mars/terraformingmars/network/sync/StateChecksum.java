@@ -0,0 +1,82 @@
+package hr.terraforming.mars.terraformingmars.network.sync;
+
+import hr.terraforming.mars.terraformingmars.enums.Milestone;
+import hr.terraforming.mars.terraformingmars.enums.ResourceType;
+import hr.terraforming.mars.terraformingmars.model.GameState;
+
+import java.util.Comparator;
+import java.util.Map;
+
+public final class StateChecksum {
+
+    public static final long NO_CHECKSUM = 0L;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private long hash = FNV_OFFSET_BASIS;
+
+    private StateChecksum() {
+    }
+
+    public static long of(GameState state) {
+        return of(GameStateSnapshot.capture(StateHistory.NO_VERSION, state));
+    }
+
+    public static long of(GameStateSnapshot snapshot) {
+        StateChecksum checksum = new StateChecksum();
+        checksum.addTurn(snapshot.turn());
+        checksum.addBoard(snapshot.board());
+
+        snapshot.players().stream()
+                .sorted(Comparator.comparingInt(PlayerSnapshot::playerNumber))
+                .forEach(checksum::addPlayer);
+
+        for (TileSnapshot tile : snapshot.tiles()) {
+            checksum.add(tile.index()).add(tile.type()).add(tile.ownerNumber());
+        }
+
+        return checksum.hash == NO_CHECKSUM ? 1L : checksum.hash;
+    }
+
+    private void addTurn(TurnSnapshot turn) {
+        add(turn.generation()).add(turn.phase())
+                .add(turn.currentPlayerNumber())
+                .add(turn.firstPlayerNumber())
+                .add(turn.actionsTaken())
+                .add(turn.cardDraftPlayerIndex());
+        turn.passedPlayerNumbers().stream().sorted().forEach(this::add);
+    }
+
+    private void addBoard(BoardSnapshot board) {
+        add(board.oxygen()).add(board.temperature()).add(board.oceans()).add(board.finalGeneration() ? 1 : 0);
+        for (Milestone milestone : Milestone.values()) {
+            add(board.claimedMilestones().getOrDefault(milestone, 0));
+        }
+    }
+
+    private void addPlayer(PlayerSnapshot player) {
+        add(player.playerNumber()).add(player.mc()).add(player.tr()).add(player.tilePoints());
+        addResources(player.resources());
+        addResources(player.production());
+        add(player.handSize()).add(player.played().size()).add(player.milestones().size());
+    }
+
+    private void addResources(Map<ResourceType, Integer> values) {
+        for (ResourceType type : ResourceType.values()) {
+            add(values.getOrDefault(type, 0));
+        }
+    }
+
+    private StateChecksum add(Enum<?> value) {
+        return add(value != null ? value.ordinal() : -1);
+    }
+
+    private StateChecksum add(int value) {
+        for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+            hash ^= (value >>> shift) & 0xFF;
+            hash *= FNV_PRIME;
+        }
+        return this;
+    }
+}
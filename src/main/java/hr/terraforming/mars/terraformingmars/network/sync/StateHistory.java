@@ -0,0 +1,44 @@
+package hr.terraforming.mars.terraformingmars.network.sync;
+
+import hr.terraforming.mars.terraformingmars.model.GameState;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class StateHistory {
+
+    public static final long NO_VERSION = -1;
+
+    private final int capacity;
+    private final Map<Long, GameStateSnapshot> snapshots;
+    private long currentVersion = 0;
+
+    public StateHistory(int capacity) {
+        this.capacity = capacity;
+        this.snapshots = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, GameStateSnapshot> eldest) {
+                return size() > StateHistory.this.capacity;
+            }
+        };
+    }
+
+    public synchronized GameStateSnapshot record(GameState state) {
+        GameStateSnapshot snapshot = GameStateSnapshot.capture(++currentVersion, state);
+        snapshots.put(snapshot.version(), snapshot);
+        return snapshot;
+    }
+
+    public synchronized long nextVersion() {
+        return currentVersion + 1;
+    }
+
+    public synchronized Optional<GameStateSnapshot> get(long version) {
+        return Optional.ofNullable(snapshots.get(version));
+    }
+
+    public synchronized void clear() {
+        snapshots.clear();
+    }
+}
@@ -0,0 +1,26 @@
+package hr.terraforming.mars.terraformingmars.network.sync;
+
+import hr.terraforming.mars.terraformingmars.model.Player;
+import hr.terraforming.mars.terraformingmars.service.DeckService;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+public record StateProjection(String viewerName) implements UnaryOperator<Object> {
+
+    public static final StateProjection PUBLIC = new StateProjection(null);
+
+    public boolean canSeeHandOf(String playerName) {
+        return viewerName != null && Objects.equals(viewerName, playerName);
+    }
+
+    @Override
+    public Object apply(Object object) {
+        return switch (object) {
+            case Player player when !player.getHand().isEmpty() && !canSeeHandOf(player.getName()) -> player.withHiddenHand();
+            case PlayerSnapshot player when !player.hand().isEmpty() && !canSeeHandOf(player.name()) -> player.withHiddenHand();
+            case DeckService deckService -> deckService.withoutDrawPile();
+            default -> object;
+        };
+    }
+}
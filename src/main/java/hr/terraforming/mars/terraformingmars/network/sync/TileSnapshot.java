@@ -0,0 +1,16 @@
+package hr.terraforming.mars.terraformingmars.network.sync;
+
+import hr.terraforming.mars.terraformingmars.enums.TileType;
+import hr.terraforming.mars.terraformingmars.model.Tile;
+
+import java.io.Serializable;
+
+public record TileSnapshot(int index, TileType type, int ownerNumber) implements Serializable {
+
+    public static final int NO_OWNER = 0;
+
+    public static TileSnapshot of(int index, Tile tile) {
+        int owner = tile.getOwner() != null ? tile.getOwner().getPlayerNumber() : NO_OWNER;
+        return new TileSnapshot(index, tile.getType(), owner);
+    }
+}
@@ -0,0 +1,26 @@
+package hr.terraforming.mars.terraformingmars.network.sync;
+
+import hr.terraforming.mars.terraformingmars.enums.GamePhase;
+import hr.terraforming.mars.terraformingmars.model.GameManager;
+import hr.terraforming.mars.terraformingmars.model.Player;
+
+import java.io.Serializable;
+import java.util.List;
+
+public record TurnSnapshot(int generation, GamePhase phase, int currentPlayerNumber, int firstPlayerNumber,
+                           List<Integer> passedPlayerNumbers, int actionsTaken, int cardDraftPlayerIndex) implements Serializable {
+
+    public static TurnSnapshot of(GameManager gameManager) {
+        Player first = gameManager.getFirstPlayer();
+
+        return new TurnSnapshot(
+                gameManager.getGeneration(),
+                gameManager.getCurrentPhase(),
+                gameManager.getCurrentPlayer().getPlayerNumber(),
+                first != null ? first.getPlayerNumber() : 0,
+                gameManager.getPassedPlayers().stream().map(Player::getPlayerNumber).toList(),
+                gameManager.getActionsTakenThisTurn(),
+                gameManager.getCardDraftPlayerIndex()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package hr.terraforming.mars.terraformingmars.network.transport;
+
+@FunctionalInterface
+public interface ConnectionAcceptor {
+
+    /**
+     * Returns the listener that will receive this connection's messages, or {@code null} to reject it.
+     */
+    ConnectionListener accept(NioConnection connection);
+}
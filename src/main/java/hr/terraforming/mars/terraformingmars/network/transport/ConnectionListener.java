@@ -0,0 +1,12 @@
+package hr.terraforming.mars.terraformingmars.network.transport;
+
+public interface ConnectionListener {
+
+    default void onOpen(NioConnection connection) {}
+
+    void onMessage(NioConnection connection, Object message);
+
+    default void onDrained(NioConnection connection) {}
+
+    default void onClose(NioConnection connection) {}
+}
@@ -0,0 +1,149 @@
+package hr.terraforming.mars.terraformingmars.network.transport;
+
+import hr.terraforming.mars.terraformingmars.network.codec.BinaryMessageCodec;
+import hr.terraforming.mars.terraformingmars.network.codec.FrameCompression;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+public final class FrameCodec {
+
+    public static final int HEADER_SIZE = Integer.BYTES;
+    public static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+    public static final byte SEQUENCED_MARKER = 0x7E;
+
+    private static final int SEQUENCE_HEADER_SIZE = 1 + Long.BYTES;
+
+    public record Sequenced(long sequence, Object message) {}
+
+    private FrameCodec() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static byte[] encodeFrame(Object message) throws IOException {
+        return encodeFrame(message, null);
+    }
+
+    public static byte[] encodeFrame(Object message, BinaryMessageCodec codec) throws IOException {
+        return frame(encodePayload(message, codec));
+    }
+
+    public static byte[] encodeFrame(Object message, BinaryMessageCodec codec, UnaryOperator<Object> projection)
+            throws IOException {
+        return frame(encodePayload(message, codec, projection));
+    }
+
+    public static byte[] encodePayload(Object message, BinaryMessageCodec codec) throws IOException {
+        return encodePayload(message, codec, null);
+    }
+
+    public static byte[] encodePayload(Object message, BinaryMessageCodec codec, UnaryOperator<Object> projection)
+            throws IOException {
+        if (codec == null) {
+            return encodePayload(message, projection);
+        }
+
+        byte[] payload = codec.supports(message) ? codec.encode(message, projection) : encodePayload(message, projection);
+        return codec.compress(payload);
+    }
+
+    public static byte[] encodePayload(Object message) throws IOException {
+        return encodePayload(message, (UnaryOperator<Object>) null);
+    }
+
+    public static byte[] encodePayload(Object message, UnaryOperator<Object> projection) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = projection != null
+                ? new ProjectingObjectOutputStream(bytes, projection)
+                : new ObjectOutputStream(bytes)) {
+            out.writeObject(message);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static byte[] frame(byte[] payload) {
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .putInt(payload.length)
+                .put(payload)
+                .array();
+    }
+
+    public static byte[] sequenced(byte[] frame, long sequence) {
+        int payloadLength = frame.length - HEADER_SIZE;
+        return ByteBuffer.allocate(HEADER_SIZE + SEQUENCE_HEADER_SIZE + payloadLength)
+                .putInt(SEQUENCE_HEADER_SIZE + payloadLength)
+                .put(SEQUENCED_MARKER)
+                .putLong(sequence)
+                .put(frame, HEADER_SIZE, payloadLength)
+                .array();
+    }
+
+    public static Object decodePayload(byte[] payload, BinaryMessageCodec codec) throws IOException {
+        if (payload.length > SEQUENCE_HEADER_SIZE && payload[0] == SEQUENCED_MARKER) {
+            long sequence = ByteBuffer.wrap(payload, 1, Long.BYTES).getLong();
+            byte[] inner = Arrays.copyOfRange(payload, SEQUENCE_HEADER_SIZE, payload.length);
+            return new Sequenced(sequence, decodePayload(inner, codec));
+        }
+
+        if (FrameCompression.isCompressed(payload)) {
+            if (codec == null) {
+                throw new StreamCorruptedException("Compressed frame received before protocol negotiation");
+            }
+            payload = codec.decompress(payload);
+        }
+
+        if (BinaryMessageCodec.isBinaryPayload(payload)) {
+            if (codec == null) {
+                throw new StreamCorruptedException("Binary frame received before protocol negotiation");
+            }
+            return codec.decode(payload);
+        }
+        return decodePayload(payload);
+    }
+
+    public static Object decodePayload(byte[] payload) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException("Unknown message class: " + e.getMessage());
+        }
+    }
+
+    public static void checkFrameLength(int length) throws IOException {
+        if (length < 0 || length > MAX_FRAME_SIZE) {
+            throw new StreamCorruptedException("Invalid frame length: " + length);
+        }
+    }
+
+    public static void writeMessage(DataOutputStream out, Object message, BinaryMessageCodec codec) throws IOException {
+        out.write(encodeFrame(message, codec));
+        out.flush();
+    }
+
+    public static Object readMessage(DataInputStream in, BinaryMessageCodec codec) throws IOException {
+        int length = in.readInt();
+        checkFrameLength(length);
+
+        byte[] payload = new byte[length];
+        in.readFully(payload);
+        return decodePayload(payload, codec);
+    }
+
+    private static final class ProjectingObjectOutputStream extends ObjectOutputStream {
+
+        private final UnaryOperator<Object> projection;
+
+        private ProjectingObjectOutputStream(OutputStream out, UnaryOperator<Object> projection) throws IOException {
+            super(out);
+            this.projection = projection;
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            return projection.apply(obj);
+        }
+    }
+}
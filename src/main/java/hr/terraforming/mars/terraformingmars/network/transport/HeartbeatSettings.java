@@ -0,0 +1,17 @@
+package hr.terraforming.mars.terraformingmars.network.transport;
+
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationKey;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationReader;
+
+public record HeartbeatSettings(int intervalMillis, int idleTimeoutMillis, int handshakeTimeoutMillis) {
+
+    public static final HeartbeatSettings DEFAULT = new HeartbeatSettings(5_000, 15_000, 5_000);
+
+    public static HeartbeatSettings fromConfiguration() {
+        return new HeartbeatSettings(
+                ConfigurationReader.getIntegerValue(ConfigurationKey.HEARTBEAT_INTERVAL, DEFAULT.intervalMillis()),
+                ConfigurationReader.getIntegerValue(ConfigurationKey.HEARTBEAT_IDLE_TIMEOUT, DEFAULT.idleTimeoutMillis()),
+                ConfigurationReader.getIntegerValue(ConfigurationKey.HANDSHAKE_TIMEOUT, DEFAULT.handshakeTimeoutMillis())
+        );
+    }
+}
@@ -0,0 +1,6 @@
+package hr.terraforming.mars.terraformingmars.network.transport;
+
+public enum LagPolicy {
+    DISCONNECT,
+    DROP
+}
@@ -0,0 +1,292 @@
+package hr.terraforming.mars.terraformingmars.network.transport;
+
+import hr.terraforming.mars.terraformingmars.network.codec.BinaryMessageCodec;
+import hr.terraforming.mars.terraformingmars.network.message.ProtocolHelloMessage;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+public class NioConnection {
+
+    private static final int INITIAL_READ_BUFFER_SIZE = 8 * 1024;
+    private static final AtomicLong ID_SEQUENCE = new AtomicLong();
+
+    @Getter
+    private final long id = ID_SEQUENCE.incrementAndGet();
+    private final SocketChannel channel;
+    private final NioEventLoop eventLoop;
+    private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicInteger queuedFrames = new AtomicInteger();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    @Getter
+    @Setter
+    private volatile OutboundLimits limits = OutboundLimits.DEFAULT;
+    private volatile long lastReadNanos = System.nanoTime();
+    private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_READ_BUFFER_SIZE);
+    private SelectionKey key;
+    private ConnectionListener listener;
+    @Getter
+    private volatile BinaryMessageCodec codec;
+
+    NioConnection(SocketChannel channel, NioEventLoop eventLoop) {
+        this.channel = channel;
+        this.eventLoop = eventLoop;
+    }
+
+    void bind(SelectionKey key, ConnectionListener listener) {
+        this.key = key;
+        this.listener = listener;
+
+        if (!outbound.isEmpty()) {
+            flush();
+        }
+    }
+
+    public void rebind(ConnectionListener newListener) {
+        this.listener = newListener;
+        newListener.onOpen(this);
+    }
+
+    public SocketAddress getRemoteAddress() {
+        try {
+            return channel.getRemoteAddress();
+        } catch (IOException _) {
+            return null;
+        }
+    }
+
+    public boolean isOpen() {
+        return !closed.get();
+    }
+
+    public void send(Object message) {
+        try {
+            sendFrame(FrameCodec.encodeFrame(message, codec));
+        } catch (IOException e) {
+            log.error("Failed to encode {} for connection {}", message.getClass().getSimpleName(), id, e);
+        }
+    }
+
+    public void send(SharedFrame frame) {
+        try {
+            sendFrame(frame.frameFor(codec));
+        } catch (IOException e) {
+            log.error("Failed to encode {} for connection {}", frame.getMessage().getClass().getSimpleName(), id, e);
+        }
+    }
+
+    public void sendFrame(byte[] frame) {
+        if (closed.get()) {
+            return;
+        }
+
+        if (exceedsLimits(frame.length)) {
+            handleOverflow(frame.length);
+            return;
+        }
+
+        queuedFrames.incrementAndGet();
+        queuedBytes.addAndGet(frame.length);
+        outbound.add(ByteBuffer.wrap(frame));
+
+        if (flushScheduled.compareAndSet(false, true)) {
+            eventLoop.execute(this::flush);
+        }
+    }
+
+    public void execute(Runnable task) {
+        eventLoop.execute(task);
+    }
+
+    public void schedule(Runnable task, long delayMillis) {
+        eventLoop.schedule(task, delayMillis);
+    }
+
+    public int getQueuedFrames() {
+        return queuedFrames.get();
+    }
+
+    public long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    public long getIdleMillis() {
+        return (System.nanoTime() - lastReadNanos) / 1_000_000;
+    }
+
+    private boolean exceedsLimits(int frameLength) {
+        OutboundLimits current = limits;
+        int frames = queuedFrames.get();
+        return frames >= current.maxQueuedFrames()
+                || (frames > 0 && queuedBytes.get() + frameLength > current.maxQueuedBytes());
+    }
+
+    private void handleOverflow(int frameLength) {
+        OutboundLimits current = limits;
+        log.warn("Outbound queue for connection {} is full ({} frames, {} bytes), applying {}",
+                id, queuedFrames.get(), queuedBytes.get(), current.lagPolicy());
+
+        switch (current.lagPolicy()) {
+            case DISCONNECT -> close();
+            case DROP -> log.debug("Dropped {} byte frame for connection {}", frameLength, id);
+        }
+    }
+
+    public void close() {
+        eventLoop.execute(this::closeNow);
+    }
+
+    void onReadable() {
+        try {
+            int read = channel.read(readBuffer);
+            if (read < 0) {
+                closeNow();
+                return;
+            }
+            lastReadNanos = System.nanoTime();
+            decodeFrames();
+        } catch (IOException e) {
+            log.debug("Read failed on connection {}: {}", id, e.getMessage());
+            closeNow();
+        }
+    }
+
+    private void decodeFrames() throws IOException {
+        readBuffer.flip();
+
+        while (readBuffer.remaining() >= FrameCodec.HEADER_SIZE) {
+            int length = readBuffer.getInt(readBuffer.position());
+            FrameCodec.checkFrameLength(length);
+
+            if (readBuffer.remaining() < FrameCodec.HEADER_SIZE + length) {
+                ensureCapacity(FrameCodec.HEADER_SIZE + length);
+                break;
+            }
+
+            readBuffer.position(readBuffer.position() + FrameCodec.HEADER_SIZE);
+            byte[] payload = new byte[length];
+            readBuffer.get(payload);
+
+            dispatch(FrameCodec.decodePayload(payload, codec));
+        }
+
+        readBuffer.compact();
+    }
+
+    private void ensureCapacity(int frameSize) {
+        if (frameSize > readBuffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocate(frameSize);
+            larger.put(readBuffer);
+            larger.flip();
+            readBuffer = larger;
+        }
+    }
+
+    private void dispatch(Object message) {
+        if (message instanceof ProtocolHelloMessage hello) {
+            negotiate(hello);
+            return;
+        }
+
+        try {
+            listener.onMessage(this, message);
+        } catch (RuntimeException e) {
+            log.error("Listener failed to handle {} on connection {}", message.getClass().getSimpleName(), id, e);
+        }
+    }
+
+    private void negotiate(ProtocolHelloMessage hello) {
+        send(BinaryMessageCodec.replyTo(hello));
+        codec = BinaryMessageCodec.negotiate(hello).orElse(null);
+
+        log.debug("Connection {} negotiated wire protocol v{} (catalog ids: {}, compression: {})", id,
+                codec != null ? codec.getVersion() : BinaryMessageCodec.JAVA_SERIALIZATION,
+                codec != null && codec.usesCatalog(),
+                codec != null && codec.usesCompression());
+    }
+
+    void onWritable() {
+        flush();
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+
+        if (closed.get() || key == null) {
+            return;
+        }
+
+        try {
+            ByteBuffer buffer;
+            while ((buffer = outbound.peek()) != null) {
+                channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                    return;
+                }
+                outbound.poll();
+                queuedFrames.decrementAndGet();
+                queuedBytes.addAndGet(-buffer.capacity());
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+            notifyDrained();
+        } catch (IOException e) {
+            log.debug("Write failed on connection {}: {}", id, e.getMessage());
+            closeNow();
+        }
+    }
+
+    private void notifyDrained() {
+        if (listener == null || !outbound.isEmpty()) {
+            return;
+        }
+
+        try {
+            listener.onDrained(this);
+        } catch (RuntimeException e) {
+            log.error("Listener failed to handle drain on connection {}", id, e);
+        }
+    }
+
+    private void closeNow() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        if (codec != null && codec.usesCompression()) {
+            log.info("Connection {} compression stats: {}", id, codec.getCompressionStats());
+        }
+
+        outbound.clear();
+        queuedFrames.set(0);
+        queuedBytes.set(0);
+
+        if (key != null) {
+            key.cancel();
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Error closing connection {}", id, e);
+        }
+
+        if (listener != null) {
+            listener.onClose(this);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package hr.terraforming.mars.terraformingmars.network.transport;
+
+import hr.terraforming.mars.terraformingmars.exception.NetworkException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.channels.*;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Slf4j
+public class NioEventLoop implements Runnable {
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<ScheduledTask> scheduledTasks =
+            new PriorityQueue<>(Comparator.comparingLong(ScheduledTask::deadline));
+    private volatile Thread thread;
+    private volatile boolean running = true;
+
+    public NioEventLoop() {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new NetworkException("Failed to open selector", e);
+        }
+    }
+
+    public boolean inEventLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    public void execute(Runnable task) {
+        tasks.add(task);
+        if (!inEventLoop()) {
+            selector.wakeup();
+        }
+    }
+
+    public void schedule(Runnable task, long delayMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        execute(() -> scheduledTasks.add(new ScheduledTask(deadline, task)));
+    }
+
+    void register(SocketChannel channel, ConnectionAcceptor acceptor) {
+        execute(() -> {
+            NioConnection connection = new NioConnection(channel, this);
+
+            try {
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ, connection);
+                ConnectionListener listener = acceptor.accept(connection);
+
+                if (listener == null) {
+                    log.info("Connection from {} rejected", connection.getRemoteAddress());
+                    key.cancel();
+                    channel.close();
+                    return;
+                }
+
+                connection.bind(key, listener);
+                listener.onOpen(connection);
+            } catch (IOException e) {
+                log.warn("Failed to register connection", e);
+                connection.close();
+            }
+        });
+    }
+
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+
+        while (running) {
+            try {
+                long timeoutMillis = millisUntilNextScheduledTask();
+                if (!tasks.isEmpty() || timeoutMillis == 0) {
+                    selector.selectNow();
+                } else if (timeoutMillis > 0) {
+                    selector.select(timeoutMillis);
+                } else {
+                    selector.select();
+                }
+                runTasks();
+                runScheduledTasks();
+                processSelectedKeys();
+            } catch (IOException e) {
+                log.error("Event loop selection failed", e);
+            } catch (ClosedSelectorException _) {
+                break;
+            }
+        }
+
+        closeAll();
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("Event loop task failed", e);
+            }
+        }
+    }
+
+    private long millisUntilNextScheduledTask() {
+        ScheduledTask next = scheduledTasks.peek();
+        if (next == null) {
+            return -1;
+        }
+
+        long remainingNanos = next.deadline() - System.nanoTime();
+        return remainingNanos <= 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+    }
+
+    private void runScheduledTasks() {
+        long now = System.nanoTime();
+        ScheduledTask next;
+
+        while ((next = scheduledTasks.peek()) != null && next.deadline() <= now) {
+            scheduledTasks.poll();
+            try {
+                next.task().run();
+            } catch (RuntimeException e) {
+                log.error("Scheduled event loop task failed", e);
+            }
+        }
+    }
+
+    private void processSelectedKeys() {
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+
+            if (!key.isValid() || !(key.attachment() instanceof NioConnection connection)) {
+                continue;
+            }
+
+            if (key.isReadable()) {
+                connection.onReadable();
+            }
+
+            if (key.isValid() && key.isWritable()) {
+                connection.onWritable();
+            }
+        }
+    }
+
+    private void closeAll() {
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof NioConnection connection) {
+                connection.close();
+            }
+        }
+        runTasks();
+
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.debug("Error closing selector", e);
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private record ScheduledTask(long deadline, Runnable task) {}
+}
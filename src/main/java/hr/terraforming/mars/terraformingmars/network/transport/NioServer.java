@@ -0,0 +1,95 @@
+package hr.terraforming.mars.terraformingmars.network.transport;
+
+import hr.terraforming.mars.terraformingmars.exception.NetworkException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+public class NioServer {
+
+    private final int port;
+    private final ConnectionAcceptor acceptor;
+    private final List<NioEventLoop> eventLoops = new ArrayList<>();
+    private ServerSocketChannel serverChannel;
+    private Thread acceptThread;
+    private volatile boolean running;
+    private int nextLoop = 0;
+
+    public NioServer(int port, int eventLoopCount, ConnectionAcceptor acceptor) {
+        this.port = port;
+        this.acceptor = acceptor;
+
+        for (int i = 0; i < Math.max(1, eventLoopCount); i++) {
+            eventLoops.add(new NioEventLoop());
+        }
+    }
+
+    public static int defaultEventLoopCount() {
+        return Math.clamp(Runtime.getRuntime().availableProcessors() / 2, 1, 4);
+    }
+
+    public void start() {
+        try {
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(port));
+        } catch (IOException e) {
+            throw new NetworkException("Failed to start server on port " + port, e);
+        }
+
+        running = true;
+
+        for (int i = 0; i < eventLoops.size(); i++) {
+            Thread.ofPlatform().name("nio-loop-" + i).daemon().start(eventLoops.get(i));
+        }
+
+        acceptThread = Thread.ofPlatform().name("nio-accept").daemon().start(this::acceptLoop);
+        log.info("NIO server listening on port {} with {} event loops", port, eventLoops.size());
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                nextEventLoop().register(channel, acceptor);
+            } catch (ClosedChannelException _) {
+                break;
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("Failed to accept connection", e);
+                }
+            }
+        }
+    }
+
+    private NioEventLoop nextEventLoop() {
+        NioEventLoop loop = eventLoops.get(nextLoop);
+        nextLoop = (nextLoop + 1) % eventLoops.size();
+        return loop;
+    }
+
+    public void shutdown() {
+        running = false;
+
+        try {
+            if (serverChannel != null) {
+                serverChannel.close();
+            }
+        } catch (IOException e) {
+            throw new NetworkException("Failed to close server channel", e);
+        } finally {
+            eventLoops.forEach(NioEventLoop::shutdown);
+            if (acceptThread != null) {
+                acceptThread.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package hr.terraforming.mars.terraformingmars.network.transport;
+
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationKey;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationReader;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public record OutboundLimits(int maxQueuedFrames, int maxQueuedBytes, int maxStateLag, LagPolicy lagPolicy) {
+
+    public static final OutboundLimits DEFAULT = new OutboundLimits(256, 8 * 1024 * 1024, 32, LagPolicy.DISCONNECT);
+
+    public static OutboundLimits fromConfiguration() {
+        LagPolicy policy = DEFAULT.lagPolicy();
+        String configuredPolicy = ConfigurationReader.getStringValue(ConfigurationKey.OUTBOUND_LAG_POLICY, null);
+
+        if (configuredPolicy != null) {
+            try {
+                policy = LagPolicy.valueOf(configuredPolicy.trim().toUpperCase());
+            } catch (IllegalArgumentException _) {
+                log.warn("Unknown lag policy '{}', using {}", configuredPolicy, policy);
+            }
+        }
+
+        return new OutboundLimits(
+                ConfigurationReader.getIntegerValue(ConfigurationKey.OUTBOUND_MAX_FRAMES, DEFAULT.maxQueuedFrames()),
+                ConfigurationReader.getIntegerValue(ConfigurationKey.OUTBOUND_MAX_BYTES, DEFAULT.maxQueuedBytes()),
+                ConfigurationReader.getIntegerValue(ConfigurationKey.OUTBOUND_MAX_STATE_LAG, DEFAULT.maxStateLag()),
+                policy
+        );
+    }
+}
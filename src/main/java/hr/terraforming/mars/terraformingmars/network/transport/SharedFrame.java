@@ -0,0 +1,45 @@
+package hr.terraforming.mars.terraformingmars.network.transport;
+
+import hr.terraforming.mars.terraformingmars.network.codec.BinaryMessageCodec;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+public final class SharedFrame {
+
+    private static final int JAVA_FORMAT = 0;
+
+    @Getter
+    private final Object message;
+    private final UnaryOperator<Object> projection;
+    private final Map<Integer, byte[]> framesByFormat = new ConcurrentHashMap<>(2);
+
+    public SharedFrame(Object message) {
+        this(message, null);
+    }
+
+    public SharedFrame(Object message, UnaryOperator<Object> projection) {
+        this.message = message;
+        this.projection = projection;
+    }
+
+    public byte[] frameFor(BinaryMessageCodec codec) throws IOException {
+        int format = codec != null ? codec.formatKey(message) : JAVA_FORMAT;
+
+        try {
+            return framesByFormat.computeIfAbsent(format, _ -> {
+                try {
+                    return FrameCodec.encodeFrame(message, codec, projection);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
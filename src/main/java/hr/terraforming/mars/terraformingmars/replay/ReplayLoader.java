@@ -5,6 +5,7 @@ import com.google.gson.reflect.TypeToken;
 import hr.terraforming.mars.terraformingmars.enums.ActionType;
 import hr.terraforming.mars.terraformingmars.factory.CardFactory;
 import hr.terraforming.mars.terraformingmars.factory.CorporationFactory;
+import hr.terraforming.mars.terraformingmars.journal.MoveLogCursor;
 import hr.terraforming.mars.terraformingmars.model.*;
 import hr.terraforming.mars.terraformingmars.util.XmlUtils;
 import javafx.scene.control.Alert;
@@ -19,23 +20,34 @@ public class ReplayLoader {
     private static final Type REPLAY_DATA_TYPE = new TypeToken<Map<String, Map<String, Object>>>() {
     }.getType();
     private static final Gson GSON = new Gson();
+    private static final String SYSTEM_PLAYER = "System";
 
-    public List<GameMove> loadMoves() {
-        return XmlUtils.readGameMoves();
+    public MoveLogCursor openMoves() {
+        return XmlUtils.openGameMoves();
     }
 
-    public void setupInitialState(List<GameMove> moves, GameManager gameManager) {
-        GameMove initialSetupMove = moves.stream()
-                .filter(m -> m.actionType() == ActionType.INITIAL_SETUP)
-                .findFirst()
-                .orElse(null);
-
-        if (initialSetupMove != null) {
-            setupState(gameManager, initialSetupMove.details());
-            moves.remove(initialSetupMove);
-        } else {
-            new Alert(Alert.AlertType.WARNING, "Replay file is missing initial setup data! Cards will not be shown.").show();
+    public int countMoves() {
+        return XmlUtils.countGameMoves();
+    }
+
+    public MoveLogCursor setupInitialState(MoveLogCursor moves, GameManager gameManager) {
+        List<GameMove> precedingMoves = new ArrayList<>();
+
+        while (moves.hasNext()) {
+            GameMove move = moves.next();
+            if (move.actionType() == ActionType.INITIAL_SETUP) {
+                setupState(gameManager, move.details());
+                return MoveLogCursor.prepend(precedingMoves, moves);
+            }
+
+            precedingMoves.add(move);
+            if (!SYSTEM_PLAYER.equals(move.playerName())) {
+                break;
+            }
         }
+
+        new Alert(Alert.AlertType.WARNING, "Replay file is missing initial setup data! Cards will not be shown.").show();
+        return MoveLogCursor.prepend(precedingMoves, moves);
     }
 
     public void setupState(GameManager gameManager, String jsonDetails) {
@@ -1,11 +1,13 @@
 package hr.terraforming.mars.terraformingmars.replay;
 
 import hr.terraforming.mars.terraformingmars.controller.game.GameScreenController;
+import hr.terraforming.mars.terraformingmars.journal.MoveLogCursor;
 import hr.terraforming.mars.terraformingmars.model.GameBoard;
 import hr.terraforming.mars.terraformingmars.model.GameMove;
 import hr.terraforming.mars.terraformingmars.model.Player;
 import hr.terraforming.mars.terraformingmars.util.DialogUtils;
 import hr.terraforming.mars.terraformingmars.view.ScreenNavigator;
+import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
@@ -14,7 +16,6 @@ import javafx.util.Duration;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 public class ReplayManager {
@@ -23,6 +24,9 @@ public class ReplayManager {
     private final ReplayLoader loader;
     private final ReplayMoveExecutor actionHandler;
     private Timeline replayTimeline;
+    private MoveLogCursor replayMoves;
+    private int replayedMoves;
+    private int totalMoves;
 
     public ReplayManager(GameScreenController controller) {
         this.controller = controller;
@@ -49,17 +53,14 @@ public class ReplayManager {
 
 
     public void startReplay() {
-        if (controller.getMoveHistoryTimeline() != null) {
-            controller.getMoveHistoryTimeline().stop();
-        }
+        controller.stopMoveHistory();
 
-        if (replayTimeline != null) {
-            replayTimeline.stop();
-        }
+        stopReplay();
 
-        List<GameMove> replayMoves = loader.loadMoves();
+        MoveLogCursor moves = loader.openMoves();
 
-        if (replayMoves.isEmpty()) {
+        if (!moves.hasNext()) {
+            moves.close();
             log.warn("No game moves to replay");
             Platform.runLater(() ->
                     DialogUtils.showDialog(Alert.AlertType.WARNING, "Replay", "No game moves found to replay.")
@@ -67,25 +68,45 @@ public class ReplayManager {
             return;
         }
 
+        totalMoves = loader.countMoves();
+        replayedMoves = 0;
+        log.info("Replaying {} game moves", totalMoves);
+
         prepareForReplay();
-        loader.setupInitialState(replayMoves, controller.getGameManager());
+        replayMoves = loader.setupInitialState(moves, controller.getGameManager());
         controller.refreshGameScreen();
 
-        AtomicInteger moveIndex = new AtomicInteger(0);
-
         replayTimeline = new Timeline(new KeyFrame(Duration.seconds(1), _ -> {
-            if (moveIndex.get() < replayMoves.size()) {
-                GameMove move = replayMoves.get(moveIndex.getAndIncrement());
+            if (replayMoves.hasNext()) {
+                GameMove move = replayMoves.next();
                 actionHandler.executeReplayMove(move);
                 controller.refreshGameScreen();
+                replayedMoves++;
+                log.debug("Replay progress {}/{}", replayedMoves, totalMoves);
+            }
+
+            if (!replayMoves.hasNext()) {
+                stopReplay();
+                onReplayFinished();
             }
         }));
 
-        replayTimeline.setCycleCount(replayMoves.size());
-        replayTimeline.setOnFinished(_ -> onReplayFinished());
+        replayTimeline.setCycleCount(Animation.INDEFINITE);
         replayTimeline.play();
     }
 
+    private void stopReplay() {
+        if (replayTimeline != null) {
+            replayTimeline.stop();
+            replayTimeline = null;
+        }
+
+        if (replayMoves != null) {
+            replayMoves.close();
+            replayMoves = null;
+        }
+    }
+
     private void onReplayFinished() {
         if (controller.getGameBoard().isFinalGeneration()) {
             List<Player> finalRankedPlayers = controller.getGameManager().calculateFinalScores();
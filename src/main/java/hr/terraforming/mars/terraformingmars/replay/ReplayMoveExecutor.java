@@ -3,11 +3,10 @@ package hr.terraforming.mars.terraformingmars.replay;
 import hr.terraforming.mars.terraformingmars.controller.game.*;
 import hr.terraforming.mars.terraformingmars.enums.*;
 import hr.terraforming.mars.terraformingmars.exception.GameStateException;
-import hr.terraforming.mars.terraformingmars.factory.CardFactory;
 import hr.terraforming.mars.terraformingmars.model.GameManager;
 import hr.terraforming.mars.terraformingmars.model.*;
-import hr.terraforming.mars.terraformingmars.service.CostService;
 import hr.terraforming.mars.terraformingmars.model.ProductionReport;
+import hr.terraforming.mars.terraformingmars.service.MoveRulesService;
 import hr.terraforming.mars.terraformingmars.service.ProductionReportService;
 import hr.terraforming.mars.terraformingmars.util.ScreenUtils;
 import javafx.application.Platform;
@@ -120,79 +119,13 @@ public record ReplayMoveExecutor(GameScreenController controller, ReplayLoader l
         controller.setViewedPlayer(player);
         controller.updateLastMoveLabel(move);
 
-        switch (move.actionType()) {
-            case PLACE_TILE -> processPlaceTile(move, player);
-            case PLAY_CARD -> processPlayCard(move, player, gameManager);
-            case CLAIM_MILESTONE -> processClaimMilestone(move, player);
-            case USE_STANDARD_PROJECT -> processUseStandardProject(move, player);
-            case CONVERT_HEAT -> processConvertHeat(player);
-            case CONVERT_PLANTS -> player.spendPlantsForGreenery();
-            case SELL_PATENTS -> processSellPatents(move, player);
-            case PASS_TURN -> {
-                boolean allPlayersPassed = gameManager.passTurn();
-                if (!allPlayersPassed) {
-                    controller.setViewedPlayer(gameManager.getCurrentPlayer());
-                }
-            }
-            default -> log.error("Unknown ActionType in replay: {}.", move.actionType());
-        }
-    }
-
-    private void processPlaceTile(GameMove move, Player player) {
-        GameBoard gameBoard = controller.getGameBoard();
-        Tile tileToPlaceOn = gameBoard.getTileAt(move.row(), move.col());
-
-        if (tileToPlaceOn != null) {
-            switch (move.tileType()) {
-                case OCEAN -> gameBoard.placeOcean(tileToPlaceOn, player);
-                case GREENERY -> gameBoard.placeGreenery(tileToPlaceOn, player);
-                case CITY -> gameBoard.placeCity(tileToPlaceOn, player);
-                default -> log.warn("Replay: Invalid tile type {} for placement.", move.tileType());
-            }
-        }
-    }
-
-    private void processPlayCard(GameMove move, Player player, GameManager gameManager) {
-        Card card = CardFactory.getCardByName(move.details());
-        if (card != null) {
-            player.playCard(card, gameManager);
-        }
-    }
-
-    private void processClaimMilestone(GameMove move, Player player) {
-        try {
-            Milestone milestone = Milestone.valueOf(move.details());
-            player.canSpendMC(8);
-            controller.getGameBoard().canClaimMilestone(milestone, player);
-        } catch (IllegalArgumentException e) {
-            throw new GameStateException("Replay error: Invalid milestone name '" + move.details() + "'", e);
-        }
-    }
+        MoveRulesService.apply(move, gameManager, controller.getGameBoard());
 
-    private void processUseStandardProject(GameMove move, Player player) {
-        try {
-            StandardProject project = StandardProject.valueOf(move.details());
-            int finalCost = CostService.getFinalProjectCost(project, player);
-            player.canSpendMC(finalCost);
-            project.execute(player, controller.getGameBoard());
-        } catch (IllegalArgumentException e) {
-            log.error("Replay Error: Invalid StandardProject name '{}' in game move.", move.details(), e);
-        }
-    }
-
-    private void processConvertHeat(Player player) {
-        player.addResource(ResourceType.HEAT, -8);
-
-        if (controller.getGameBoard().canIncreaseTemperature()) {
-            player.increaseTR(1);
+        if (move.actionType() == ActionType.PASS_TURN) {
+            controller.setViewedPlayer(gameManager.getCurrentPlayer());
         }
     }
 
-    private void processSellPatents(GameMove move, Player player) {
-        String[] soldCardNames = move.details().split(", ");
-        player.addMC(soldCardNames.length);
-    }
-
     public void clearLastMoveLabel() {
         controller.updateLastMoveLabel(null);
     }
@@ -0,0 +1,246 @@
+package hr.terraforming.mars.terraformingmars.save;
+
+import hr.terraforming.mars.terraformingmars.model.GameBoard;
+import hr.terraforming.mars.terraformingmars.model.GameManager;
+import hr.terraforming.mars.terraformingmars.model.GameState;
+import hr.terraforming.mars.terraformingmars.model.SaveEvent;
+import hr.terraforming.mars.terraformingmars.thread.AppExecutors;
+import hr.terraforming.mars.terraformingmars.util.FileUtils;
+import hr.terraforming.mars.terraformingmars.util.GameStateUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+@Slf4j
+public class SaveCatalog {
+
+    private static final int MAGIC = 0x544D5356;
+    private static final int FORMAT_VERSION = 1;
+    private static final int PREFIX_SIZE = Integer.BYTES * 2;
+    private static final int PAYLOAD_OFFSET = PREFIX_SIZE + SaveHeader.SIZE + Integer.BYTES * 2;
+    private static final String EXTENSION = ".tmsave";
+    private static final String INDEX_FILE_NAME = "index.dat";
+    private static final Pattern SLOT_PATTERN = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final DateTimeFormatter SLOT_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path directory;
+    private final Path legacySave;
+    private SaveIndex index;
+
+    public SaveCatalog(Path directory, Path legacySave) {
+        this.directory = directory;
+        this.legacySave = legacySave;
+    }
+
+    public static String newSlotId() {
+        return "save-" + LocalDateTime.now().format(SLOT_FORMATTER);
+    }
+
+    public synchronized List<SaveHeader> list() {
+        try {
+            reconcile();
+        } catch (IOException e) {
+            log.error("Failed to read save catalog {}", directory, e);
+            return List.of();
+        }
+
+        List<SaveHeader> headers = new ArrayList<>(index.headers());
+        headers.sort(Comparator.comparing(SaveHeader::savedAt).reversed());
+        return headers;
+    }
+
+    public void save(String slot, GameManager gameManager, GameBoard gameBoard, Consumer<SaveEvent> onEvent) {
+        Path target = slotPath(slot);
+        GameState state = new GameState(gameManager, gameBoard).copy();
+
+        AppExecutors.saves().execute(() -> {
+            try {
+                byte[] snapshot = GameStateUtils.serialize(state);
+                onEvent.accept(SaveEvent.captured(target, snapshot.length));
+                write(target, SaveHeader.of(slot, state.gameManager(), state.gameBoard(), snapshot.length), snapshot, onEvent);
+                onEvent.accept(SaveEvent.completed(target, snapshot.length));
+            } catch (IOException e) {
+                log.error("Failed to save game state to {}", target.toAbsolutePath(), e);
+                onEvent.accept(SaveEvent.failed(target, e));
+            }
+        });
+    }
+
+    public GameState load(String slot) throws IOException {
+        Path path = slotPath(slot);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            readHeader(channel, path);
+
+            ByteBuffer frame = readFully(channel, PAYLOAD_OFFSET - Integer.BYTES * 2L, Integer.BYTES * 2);
+            int length = frame.getInt();
+            int checksum = frame.getInt();
+            if (length < 0 || length > channel.size() - PAYLOAD_OFFSET) {
+                throw new IOException("Truncated save file " + path);
+            }
+
+            byte[] payload = readFully(channel, PAYLOAD_OFFSET, length).array();
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Save file " + path + " is corrupt (checksum mismatch)");
+            }
+
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(payload))) {
+                GameState state = (GameState) in.readObject();
+                log.info("Game state loaded from {}", path.toAbsolutePath());
+                return state;
+            } catch (ClassNotFoundException | ClassCastException e) {
+                throw new IOException("Save file " + path + " does not contain a game state", e);
+            }
+        }
+    }
+
+    public synchronized void delete(String slot) {
+        try {
+            Files.deleteIfExists(slotPath(slot));
+            if (index != null) {
+                index.remove(slot);
+            }
+            log.info("Deleted save {}", slot);
+        } catch (IOException e) {
+            log.error("Failed to delete save {}", slot, e);
+        }
+    }
+
+    public synchronized void close() {
+        if (index == null) {
+            return;
+        }
+
+        try {
+            index.close();
+        } catch (IOException e) {
+            log.error("Failed to close save index", e);
+        } finally {
+            index = null;
+        }
+    }
+
+    private void write(Path target, SaveHeader header, byte[] snapshot, Consumer<SaveEvent> onEvent) throws IOException {
+        Files.createDirectories(directory);
+
+        CRC32C crc = new CRC32C();
+        crc.update(snapshot);
+        ByteBuffer prefix = ByteBuffer.allocate(PAYLOAD_OFFSET);
+        prefix.putInt(MAGIC).putInt(FORMAT_VERSION);
+        header.writeTo(prefix);
+        prefix.putInt(snapshot.length).putInt((int) crc.getValue()).flip();
+
+        FileUtils.writeAtomically(target, prefix, snapshot,
+                written -> onEvent.accept(SaveEvent.writing(target, written, snapshot.length)));
+        log.info("Game state saved to {} ({} bytes)", target.toAbsolutePath(), snapshot.length);
+
+        synchronized (this) {
+            if (index != null) {
+                index.put(header);
+            }
+        }
+    }
+
+    private void reconcile() throws IOException {
+        Files.createDirectories(directory);
+        if (index == null) {
+            index = SaveIndex.open(directory.resolve(INDEX_FILE_NAME));
+        }
+        if (legacySave != null && Files.exists(legacySave)) {
+            importLegacySave();
+        }
+
+        Set<String> slotsOnDisk = new HashSet<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(EXTENSION))
+                    .forEach(name -> slotsOnDisk.add(name.substring(0, name.length() - EXTENSION.length())));
+        }
+
+        Set<String> indexed = new HashSet<>();
+        for (SaveHeader header : index.headers()) {
+            if (slotsOnDisk.contains(header.slot())) {
+                indexed.add(header.slot());
+            } else {
+                index.remove(header.slot());
+            }
+        }
+
+        for (String slot : slotsOnDisk) {
+            if (!indexed.contains(slot)) {
+                indexSlotFile(slot);
+            }
+        }
+    }
+
+    private void indexSlotFile(String slot) {
+        Path path = directory.resolve(slot + EXTENSION);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            index.put(readHeader(channel, path));
+        } catch (IOException e) {
+            log.warn("Skipping unreadable save {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void importLegacySave() {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(legacySave)))) {
+            GameState state = (GameState) in.readObject();
+            LocalDateTime savedAt = LocalDateTime.ofInstant(Files.getLastModifiedTime(legacySave).toInstant(), ZoneId.systemDefault());
+            String slot = "imported-" + savedAt.format(SLOT_FORMATTER);
+
+            byte[] snapshot = GameStateUtils.serialize(state);
+            SaveHeader current = SaveHeader.of(slot, state.gameManager(), state.gameBoard(), snapshot.length);
+            SaveHeader header = new SaveHeader(slot, current.generation(), current.phase(), current.players(),
+                    current.corporations(), current.temperature(), current.oxygen(), current.oceans(), savedAt, snapshot.length);
+            write(slotPath(slot), header, snapshot, _ -> {});
+
+            Files.move(legacySave, legacySave.resolveSibling(legacySave.getFileName() + ".imported"),
+                    StandardCopyOption.REPLACE_EXISTING);
+            log.info("Imported legacy save {} as slot {}", legacySave, slot);
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            log.warn("Could not import legacy save {}: {}", legacySave, e.getMessage());
+        }
+    }
+
+    private static SaveHeader readHeader(FileChannel channel, Path path) throws IOException {
+        if (channel.size() < PAYLOAD_OFFSET) {
+            throw new IOException("Truncated save file " + path);
+        }
+
+        ByteBuffer prefix = readFully(channel, 0, PREFIX_SIZE + SaveHeader.SIZE);
+        if (prefix.getInt() != MAGIC || prefix.getInt() != FORMAT_VERSION) {
+            throw new IOException("Not a save file: " + path);
+        }
+        return SaveHeader.readFrom(prefix);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of save file at " + (position + buffer.position()));
+            }
+        }
+        return buffer.flip();
+    }
+
+    private Path slotPath(String slot) {
+        if (slot == null || !SLOT_PATTERN.matcher(slot).matches()) {
+            throw new IllegalArgumentException("Invalid save slot name: " + slot);
+        }
+        return directory.resolve(slot + EXTENSION);
+    }
+}
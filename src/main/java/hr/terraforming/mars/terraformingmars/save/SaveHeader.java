@@ -0,0 +1,113 @@
+package hr.terraforming.mars.terraformingmars.save;
+
+import hr.terraforming.mars.terraformingmars.enums.GamePhase;
+import hr.terraforming.mars.terraformingmars.model.GameBoard;
+import hr.terraforming.mars.terraformingmars.model.GameManager;
+import hr.terraforming.mars.terraformingmars.model.Player;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public record SaveHeader(String slot, int generation, GamePhase phase, List<String> players,
+                         List<String> corporations, int temperature, int oxygen, int oceans,
+                         LocalDateTime savedAt, long size) {
+
+    public static final int SIZE = 1024;
+
+    private static final int MAX_SLOT_BYTES = 64;
+    private static final int MAX_NAME_BYTES = 40;
+    private static final int MAX_PLAYERS = 8;
+
+    public static SaveHeader of(String slot, GameManager gameManager, GameBoard gameBoard, long size) {
+        List<String> players = new ArrayList<>();
+        List<String> corporations = new ArrayList<>();
+        for (Player player : gameManager.getPlayers()) {
+            players.add(Objects.toString(player.getName(), ""));
+            corporations.add(player.getCorporation() != null ? player.getCorporation().name() : "N/A");
+        }
+
+        return new SaveHeader(slot, gameManager.getGeneration(), gameManager.getCurrentPhase(),
+                List.copyOf(players), List.copyOf(corporations),
+                gameBoard.getTemperature(), gameBoard.getOxygenLevel(), gameBoard.getOceansPlaced(),
+                LocalDateTime.now(), size);
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(SIZE);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeBounded(out, slot, MAX_SLOT_BYTES);
+            out.writeInt(generation);
+            writeBounded(out, phase != null ? phase.name() : "", MAX_NAME_BYTES);
+
+            int count = Math.min(players.size(), MAX_PLAYERS);
+            out.writeByte(count);
+            for (int i = 0; i < count; i++) {
+                writeBounded(out, players.get(i), MAX_NAME_BYTES);
+                writeBounded(out, i < corporations.size() ? corporations.get(i) : "N/A", MAX_NAME_BYTES);
+            }
+
+            out.writeInt(temperature);
+            out.writeInt(oxygen);
+            out.writeInt(oceans);
+            out.writeLong(savedAt.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(savedAt.getNano());
+            out.writeLong(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        byte[] encoded = bytes.toByteArray();
+        buffer.putInt(encoded.length).put(encoded).put(new byte[SIZE - Integer.BYTES - encoded.length]);
+    }
+
+    public static SaveHeader readFrom(ByteBuffer buffer) throws IOException {
+        int length = buffer.getInt();
+        if (length <= 0 || length > SIZE - Integer.BYTES) {
+            throw new IOException("Invalid save header length " + length);
+        }
+
+        byte[] encoded = new byte[length];
+        buffer.get(encoded);
+        buffer.position(buffer.position() + SIZE - Integer.BYTES - length);
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            String slot = in.readUTF();
+            int generation = in.readInt();
+            String phase = in.readUTF();
+
+            int count = in.readUnsignedByte();
+            List<String> players = new ArrayList<>(count);
+            List<String> corporations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                players.add(in.readUTF());
+                corporations.add(in.readUTF());
+            }
+
+            int temperature = in.readInt();
+            int oxygen = in.readInt();
+            int oceans = in.readInt();
+            LocalDateTime savedAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            long size = in.readLong();
+
+            return new SaveHeader(slot, generation, phase.isEmpty() ? null : GamePhase.valueOf(phase),
+                    List.copyOf(players), List.copyOf(corporations), temperature, oxygen, oceans, savedAt, size);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IOException("Corrupt save header", e);
+        }
+    }
+
+    private static void writeBounded(DataOutputStream out, String value, int maxBytes) throws IOException {
+        String bounded = value != null ? value : "";
+        while (bounded.getBytes(StandardCharsets.UTF_8).length > maxBytes) {
+            bounded = bounded.substring(0, bounded.offsetByCodePoints(bounded.length(), -1));
+        }
+        out.writeUTF(bounded);
+    }
+}
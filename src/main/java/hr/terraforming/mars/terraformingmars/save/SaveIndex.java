@@ -0,0 +1,148 @@
+package hr.terraforming.mars.terraformingmars.save;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+class SaveIndex implements Closeable {
+
+    private static final int MAGIC = 0x544D5349;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 4;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Path path;
+    private final FileChannel channel;
+    private MappedByteBuffer mapping;
+    private int capacity;
+    private int count;
+
+    private SaveIndex(Path path, FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+    }
+
+    static SaveIndex open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        SaveIndex index = new SaveIndex(path, channel);
+
+        try {
+            index.load();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return index;
+    }
+
+    private void load() throws IOException {
+        long fileSize = channel.size();
+        int entries = (int) Math.max(0, (fileSize - HEADER_SIZE) / SaveHeader.SIZE);
+        map(Math.max(INITIAL_CAPACITY, entries));
+
+        if (fileSize >= HEADER_SIZE
+                && mapping.getInt(0) == MAGIC
+                && mapping.getInt(Integer.BYTES) == FORMAT_VERSION
+                && mapping.getInt(Integer.BYTES * 2) == SaveHeader.SIZE) {
+            count = Math.clamp(mapping.getInt(Integer.BYTES * 3), 0, entries);
+        } else {
+            if (fileSize > 0) {
+                log.warn("Save index {} is not readable, it will be rebuilt", path);
+            }
+            count = 0;
+        }
+        writeHeader();
+    }
+
+    synchronized List<SaveHeader> headers() {
+        List<SaveHeader> headers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            try {
+                headers.add(SaveHeader.readFrom(entry(i)));
+            } catch (IOException e) {
+                log.warn("Skipping corrupt save index entry {}: {}", i, e.getMessage());
+            }
+        }
+        return headers;
+    }
+
+    synchronized void put(SaveHeader header) throws IOException {
+        int position = indexOf(header.slot());
+        if (position < 0) {
+            if (count == capacity) {
+                map(capacity * 2);
+            }
+            position = count++;
+        }
+
+        header.writeTo(entry(position));
+        writeHeader();
+    }
+
+    synchronized void remove(String slot) {
+        int position = indexOf(slot);
+        if (position < 0) {
+            return;
+        }
+
+        int last = count - 1;
+        if (position != last) {
+            entry(position).put(entry(last));
+        }
+        count--;
+        writeHeader();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+
+        try {
+            mapping.force();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private int indexOf(String slot) {
+        for (int i = 0; i < count; i++) {
+            ByteBuffer entry = entry(i);
+            try {
+                if (SaveHeader.readFrom(entry).slot().equals(slot)) {
+                    return i;
+                }
+            } catch (IOException _) {
+                // A corrupt entry never matches; it is overwritten or dropped on the next rebuild
+            }
+        }
+        return -1;
+    }
+
+    private ByteBuffer entry(int position) {
+        return mapping.slice(HEADER_SIZE + position * SaveHeader.SIZE, SaveHeader.SIZE);
+    }
+
+    private void map(int entries) throws IOException {
+        capacity = entries;
+        mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * SaveHeader.SIZE);
+    }
+
+    private void writeHeader() {
+        mapping.putInt(0, MAGIC)
+                .putInt(Integer.BYTES, FORMAT_VERSION)
+                .putInt(Integer.BYTES * 2, SaveHeader.SIZE)
+                .putInt(Integer.BYTES * 3, count);
+    }
+}
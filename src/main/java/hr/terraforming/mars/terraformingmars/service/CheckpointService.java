@@ -0,0 +1,116 @@
+package hr.terraforming.mars.terraformingmars.service;
+
+import hr.terraforming.mars.terraformingmars.enums.PlayerType;
+import hr.terraforming.mars.terraformingmars.exception.GameStateException;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationKey;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationReader;
+import hr.terraforming.mars.terraformingmars.journal.MoveLogCursor;
+import hr.terraforming.mars.terraformingmars.journal.SnapshotStore;
+import hr.terraforming.mars.terraformingmars.model.ApplicationConfiguration;
+import hr.terraforming.mars.terraformingmars.model.GameBoard;
+import hr.terraforming.mars.terraformingmars.model.GameManager;
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import hr.terraforming.mars.terraformingmars.model.GameState;
+import hr.terraforming.mars.terraformingmars.thread.AppExecutors;
+import hr.terraforming.mars.terraformingmars.util.GameMoveUtils;
+import hr.terraforming.mars.terraformingmars.util.GameStateUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+@Slf4j
+public final class CheckpointService {
+
+    private static final int DEFAULT_INTERVAL = 25;
+    private static final int RETAINED_SNAPSHOTS = 2;
+    private static final SnapshotStore SNAPSHOTS = new SnapshotStore(Path.of("checkpoints"), RETAINED_SNAPSHOTS);
+    private static final int INTERVAL = Math.max(1,
+            ConfigurationReader.getIntegerValue(ConfigurationKey.CHECKPOINT_INTERVAL, DEFAULT_INTERVAL));
+
+    private static int movesSinceCheckpoint;
+
+    private CheckpointService() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void recordMove(GameMove move, GameManager gameManager, GameBoard gameBoard) {
+        GameMoveUtils.journalMove(move);
+
+        boolean due;
+        synchronized (CheckpointService.class) {
+            due = ++movesSinceCheckpoint >= INTERVAL;
+        }
+        if (due) {
+            checkpoint(gameManager, gameBoard);
+        }
+    }
+
+    public static void checkpoint(GameManager gameManager, GameBoard gameBoard) {
+        if (ApplicationConfiguration.getInstance().getPlayerType() == PlayerType.CLIENT) {
+            return;
+        }
+
+        GameState state = new GameState(gameManager, gameBoard).copy();
+
+        synchronized (CheckpointService.class) {
+            movesSinceCheckpoint = 0;
+        }
+        AppExecutors.journal().execute(() -> writeCheckpoint(state));
+    }
+
+    private static void writeCheckpoint(GameState state) {
+        try {
+            byte[] snapshot = GameStateUtils.serialize(state);
+            GameMoveUtils.syncJournal();
+            long sequence = GameMoveUtils.getJournalSequence();
+            SNAPSHOTS.write(sequence, snapshot);
+            SNAPSHOTS.oldestSequence().ifPresent(GameMoveUtils::compactJournal);
+            log.info("Checkpoint written at move #{}", sequence);
+        } catch (IOException e) {
+            log.error("Failed to write checkpoint", e);
+        }
+    }
+
+    public static Optional<GameState> recover() {
+        long baseSequence;
+        try {
+            baseSequence = GameMoveUtils.getJournalBaseSequence();
+        } catch (IOException e) {
+            log.error("Cannot open the move journal for recovery", e);
+            return Optional.empty();
+        }
+
+        Optional<SnapshotStore.Snapshot> snapshot = SNAPSHOTS.latest(baseSequence);
+        if (snapshot.isEmpty()) {
+            log.warn("No usable checkpoint found");
+            return Optional.empty();
+        }
+
+        GameState state = snapshot.get().state();
+        state.gameManager().relink(state.gameBoard());
+
+        int replayed = 0;
+        try (MoveLogCursor moves = GameMoveUtils.openJournalFrom(snapshot.get().sequence())) {
+            while (moves.hasNext()) {
+                MoveRulesService.apply(moves.next(), state.gameManager(), state.gameBoard());
+                replayed++;
+            }
+        } catch (IOException | UncheckedIOException | GameStateException e) {
+            log.error("Failed to replay the journal after checkpoint #{}", snapshot.get().sequence(), e);
+            return Optional.empty();
+        }
+
+        log.info("Recovered game from checkpoint #{} and {} journaled moves", snapshot.get().sequence(), replayed);
+        return Optional.of(state);
+    }
+
+    public static void clear() {
+        synchronized (CheckpointService.class) {
+            movesSinceCheckpoint = 0;
+        }
+        AppExecutors.journal().execute(SNAPSHOTS::clear);
+    }
+}
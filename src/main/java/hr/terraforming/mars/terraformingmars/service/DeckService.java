@@ -22,6 +22,19 @@ public class DeckService implements Serializable {
         this.remainingCards = new ArrayList<>(CardFactory.getAllCards());
     }
 
+    private DeckService(List<Corporation> remainingCorporations, List<Card> remainingCards) {
+        this.remainingCorporations = remainingCorporations;
+        this.remainingCards = remainingCards;
+    }
+
+    public DeckService copy() {
+        return new DeckService(new ArrayList<>(remainingCorporations), new ArrayList<>(remainingCards));
+    }
+
+    public DeckService withoutDrawPile() {
+        return new DeckService(new ArrayList<>(), new ArrayList<>());
+    }
+
     public void shuffleCorporations() {
         Collections.shuffle(remainingCorporations);
         log.info("Corporations shuffled. Remaining: {}", remainingCorporations.size());
@@ -3,60 +3,56 @@ package hr.terraforming.mars.terraformingmars.service;
 import hr.terraforming.mars.terraformingmars.model.GameBoard;
 import hr.terraforming.mars.terraformingmars.model.GameManager;
 import hr.terraforming.mars.terraformingmars.model.GameState;
-import hr.terraforming.mars.terraformingmars.util.DialogUtils;
+import hr.terraforming.mars.terraformingmars.model.SaveEvent;
+import hr.terraforming.mars.terraformingmars.save.SaveCatalog;
+import hr.terraforming.mars.terraformingmars.save.SaveHeader;
 import hr.terraforming.mars.terraformingmars.util.GameMoveUtils;
 import hr.terraforming.mars.terraformingmars.util.XmlUtils;
-import javafx.scene.control.Alert;
 import lombok.extern.slf4j.Slf4j;
-import java.io.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 public class GameStateService {
 
-    public static final String SAVE_GAME_FILE_NAME = "saveGame/gameSave.dat";
+    private static final String SAVE_GAME_DIRECTORY = "saveGame";
+    private static final String LEGACY_SAVE_GAME_FILE_NAME = "saveGame/gameSave.dat";
+    private static final SaveCatalog SAVE_CATALOG = new SaveCatalog(Path.of(SAVE_GAME_DIRECTORY), Path.of(LEGACY_SAVE_GAME_FILE_NAME));
 
     public void clearGameData() {
         GameMoveUtils.deleteMoveHistoryFile();
+        CheckpointService.clear();
         XmlUtils.clearGameMoves();
     }
 
-    public void saveGame(GameManager gameManager, GameBoard gameBoard) {
-        GameState gameState = new GameState(gameManager, gameBoard);
-
-        File file = new File(SAVE_GAME_FILE_NAME);
-        File parentDir = file.getParentFile();
-        if (!parentDir.exists()) {
-            if (parentDir.mkdirs()) {
-                log.info("Created directory: {}", parentDir.getAbsolutePath());
-            } else {
-                log.error("Failed to create directory: {}", parentDir.getAbsolutePath());
-                return;
-            }
-        }
+    public void saveGame(GameManager gameManager, GameBoard gameBoard, Consumer<SaveEvent> onEvent) {
+        SAVE_CATALOG.save(SaveCatalog.newSlotId(), gameManager, gameBoard, onEvent);
+    }
 
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
-            oos.writeObject(gameState);
-            DialogUtils.showDialog(Alert.AlertType.INFORMATION, "Save Game Successful!", "The game has been successfully saved!");
-            log.info("Game state saved to {}", file.getAbsolutePath());
+    public List<SaveHeader> listSavedGames() {
+        return SAVE_CATALOG.list();
+    }
+
+    public GameState recoverLastGame() {
+        return CheckpointService.recover().orElse(null);
+    }
+
+    public GameState loadGame(String slot) {
+        try {
+            return SAVE_CATALOG.load(slot);
         } catch (IOException e) {
-            log.error("Failed to save game state to {}", file.getAbsolutePath(), e);
+            log.error("Failed to load saved game {}", slot, e);
+            return null;
         }
     }
 
-    public GameState loadGame() {
-        File file = new File(SAVE_GAME_FILE_NAME);
-
-        if (file.exists()) {
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(file))) {
-                GameState loadedState = (GameState) ois.readObject();
-                log.info("Game state loaded from {}", file.getAbsolutePath());
-                return loadedState;
-            } catch (IOException | ClassNotFoundException e) {
-                log.error("Failed to load game state from {}", file.getAbsolutePath(), e);
-            }
-        } else {
-            log.warn("Save file not found at: {}", file.getAbsolutePath());
-        }
-        return null;
+    public void deleteSavedGame(String slot) {
+        SAVE_CATALOG.delete(slot);
+    }
+
+    public static void closeSaveCatalog() {
+        SAVE_CATALOG.close();
     }
 }
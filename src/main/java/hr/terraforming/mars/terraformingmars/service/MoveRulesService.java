@@ -0,0 +1,182 @@
+package hr.terraforming.mars.terraformingmars.service;
+
+import hr.terraforming.mars.terraformingmars.enums.GamePhase;
+import hr.terraforming.mars.terraformingmars.enums.Milestone;
+import hr.terraforming.mars.terraformingmars.enums.ResourceType;
+import hr.terraforming.mars.terraformingmars.enums.StandardProject;
+import hr.terraforming.mars.terraformingmars.enums.TileType;
+import hr.terraforming.mars.terraformingmars.exception.GameStateException;
+import hr.terraforming.mars.terraformingmars.factory.CardFactory;
+import hr.terraforming.mars.terraformingmars.model.*;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+public final class MoveRulesService {
+
+    public static final int MILESTONE_COST = 8;
+    public static final int CONVERSION_COST = 8;
+    public static final int RESEARCH_CARD_COST = 3;
+
+    private MoveRulesService() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void apply(GameMove move, GameManager gameManager, GameBoard gameBoard) {
+        switch (move.actionType()) {
+            case INITIAL_SETUP, PLAYER_ORDER, RESEARCH_COMPLETE ->
+                    log.trace("{} is applied by the phase flow", move.actionType());
+            case OPEN_SELL_PATENTS_MODAL, OPEN_FINAL_GREENERY_MODAL, OPEN_PRODUCTION_PHASE_MODAL,
+                 FINISH_FINAL_GREENERY, FINISH_PRODUCTION_PHASE ->
+                    log.trace("{} does not change the game state", move.actionType());
+            case PASS_TURN, AUTO_PASS -> gameManager.passTurn();
+            default -> applyPlayerMove(move, findPlayer(move, gameManager), gameManager, gameBoard);
+        }
+    }
+
+    public static boolean playCard(Card card, Player player, GameManager gameManager) {
+        player.playCard(card, gameManager);
+        return card.getTileToPlace() == null;
+    }
+
+    public static void placeTile(TileType tileType, Tile tile, Player player, GameBoard gameBoard) {
+        switch (tileType) {
+            case OCEAN -> gameBoard.placeOcean(tile, player);
+            case GREENERY -> gameBoard.placeGreenery(tile, player);
+            case CITY -> gameBoard.placeCity(tile, player);
+            default -> throw new IllegalArgumentException("Invalid tile type " + tileType);
+        }
+    }
+
+    public static boolean claimMilestone(Milestone milestone, Player player, GameBoard gameBoard) {
+        if (!gameBoard.canClaimMilestone(milestone, player)) {
+            return false;
+        }
+
+        player.canSpendMC(MILESTONE_COST);
+        return true;
+    }
+
+    public static boolean payForProject(StandardProject project, Player player) {
+        return player.canSpendMC(CostService.getFinalProjectCost(project, player));
+    }
+
+    public static boolean useStandardProject(StandardProject project, Player player, GameBoard gameBoard) {
+        if (project == StandardProject.SELL_PATENTS) {
+            return false;
+        }
+
+        boolean paid = payForProject(project, player);
+        if (paid && !project.requiresTilePlacement()) {
+            project.execute(player, gameBoard);
+            return true;
+        }
+        return false;
+    }
+
+    public static boolean canConvertHeat(Player player) {
+        return player.resourceProperty(ResourceType.HEAT).get() >= CONVERSION_COST;
+    }
+
+    public static void convertHeat(Player player, GameBoard gameBoard) {
+        player.addResource(ResourceType.HEAT, -CONVERSION_COST);
+        gameBoard.canIncreaseTemperature();
+        player.increaseTR(1);
+    }
+
+    public static void sellPatents(Player player, Collection<String> cardNames) {
+        player.getHand().removeIf(card -> cardNames.contains(card.getName()));
+        player.addMC(cardNames.size());
+    }
+
+    public static boolean buyResearchCards(Player player, List<Card> cards) {
+        if (!player.canSpendMC(cards.size() * RESEARCH_CARD_COST)) {
+            return false;
+        }
+
+        player.getHand().addAll(cards);
+        return true;
+    }
+
+    public static List<String> cardNames(String details) {
+        if (details == null || details.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(details.split(",")).map(String::trim).toList();
+    }
+
+    private static void applyPlayerMove(GameMove move, Player player, GameManager gameManager, GameBoard gameBoard) {
+        try {
+            boolean countsAsAction = switch (move.actionType()) {
+                case PLAY_CARD -> playCard(findCard(move.details()), player, gameManager);
+                case PLACE_TILE -> applyPlaceTile(move, player, gameManager, gameBoard);
+                case CLAIM_MILESTONE -> claimMilestone(Milestone.valueOf(move.details()), player, gameBoard);
+                case USE_STANDARD_PROJECT -> useStandardProject(StandardProject.valueOf(move.details()), player, gameBoard);
+                case CONVERT_HEAT -> {
+                    convertHeat(player, gameBoard);
+                    yield true;
+                }
+                case CONVERT_PLANTS -> {
+                    player.spendPlantsForGreenery();
+                    yield false;
+                }
+                case SELL_PATENTS -> {
+                    sellPatents(player, cardNames(move.details()));
+                    yield true;
+                }
+                case OPEN_CHOOSE_CARDS_MODAL -> {
+                    buyResearchCards(player, cardNames(move.details()).stream()
+                            .map(CardFactory::getCardByName)
+                            .filter(Objects::nonNull)
+                            .toList());
+                    yield false;
+                }
+                default -> {
+                    log.error("Unknown ActionType: {}.", move.actionType());
+                    yield false;
+                }
+            };
+
+            if (countsAsAction) {
+                gameManager.incrementActionsTaken();
+            }
+        } catch (IllegalArgumentException e) {
+            throw new GameStateException("Invalid " + move.actionType() + " move '" + move.details() + "' by " + player.getName(), e);
+        }
+    }
+
+    private static Player findPlayer(GameMove move, GameManager gameManager) {
+        Player player = gameManager.getPlayerByName(move.playerName());
+        if (player == null) {
+            throw new GameStateException("Player '" + move.playerName() + "' not found in game");
+        }
+        return player;
+    }
+
+    private static Card findCard(String name) {
+        Card card = CardFactory.getCardByName(name);
+        if (card == null) {
+            throw new IllegalArgumentException("Unknown card");
+        }
+        return card;
+    }
+
+    private static boolean applyPlaceTile(GameMove move, Player player, GameManager gameManager, GameBoard gameBoard) {
+        Tile tile = move.row() != null && move.col() != null ? gameBoard.getTileAt(move.row(), move.col()) : null;
+        if (tile == null || move.tileType() == null) {
+            throw new IllegalArgumentException("Missing tile position");
+        }
+
+        placeTile(move.tileType(), tile, player, gameBoard);
+
+        if (gameManager.getCurrentPhase() == GamePhase.FINAL_GREENERY) {
+            player.spendPlantsForGreenery();
+            return false;
+        }
+        return true;
+    }
+}
@@ -130,10 +130,9 @@ public record PlacementService(GameBoard gameBoard) {
         }
 
         if (context.card() != null) {
-            context.owner().playCard(context.card(), context.gameManager());
+            MoveRulesService.playCard(context.card(), context.owner(), context.gameManager());
         } else if (context.project() != null) {
-            int finalCost = CostService.getFinalProjectCost(context.project(), context.owner());
-            context.owner().canSpendMC(finalCost);
+            MoveRulesService.payForProject(context.project(), context.owner());
         }
     }
 
@@ -0,0 +1,86 @@
+package hr.terraforming.mars.terraformingmars.thread;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+@Slf4j
+public final class AppExecutors {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(3);
+
+    private static final ManagedExecutor IO = new ManagedExecutor("io", 4, 1_024);
+    private static final ManagedExecutor NETWORK = new ManagedExecutor("network", 16, 256);
+    private static final ManagedExecutor WATCH = new ManagedExecutor("watch", 4, 16);
+    private static final SerialExecutor JOURNAL = new SerialExecutor(IO);
+    private static final SerialExecutor SAVES = new SerialExecutor(IO);
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("app-timer").daemon().factory());
+    private static final Set<ScheduledFuture<?>> TIMERS = ConcurrentHashMap.newKeySet();
+
+    private AppExecutors() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static ManagedExecutor io() {
+        return IO;
+    }
+
+    public static ManagedExecutor network() {
+        return NETWORK;
+    }
+
+    public static Executor journal() {
+        return JOURNAL;
+    }
+
+    public static Executor saves() {
+        return SAVES;
+    }
+
+    public static ManagedExecutor watch() {
+        return WATCH;
+    }
+
+    public static List<ManagedExecutor> all() {
+        return List.of(IO, NETWORK, WATCH);
+    }
+
+    public static ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+        ScheduledFuture<?> future = TIMER.scheduleAtFixedRate(() -> runTimerTask(task),
+                period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+        TIMERS.add(future);
+        return future;
+    }
+
+    private static void runTimerTask(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("Timer task failed", e);
+        }
+    }
+
+    public static void cancel(ScheduledFuture<?> future) {
+        if (future != null) {
+            future.cancel(false);
+            TIMERS.remove(future);
+        }
+    }
+
+    public static void cancelSessionTasks() {
+        TIMERS.forEach(future -> future.cancel(false));
+        TIMERS.clear();
+        int cancelled = NETWORK.cancelAll();
+        log.info("Cancelled session tasks ({} network tasks), {}", cancelled, NETWORK);
+    }
+
+    public static void shutdown() {
+        log.info("Shutting down executors: {}", all());
+        TIMER.shutdownNow();
+        all().forEach(executor -> executor.shutdown(SHUTDOWN_TIMEOUT));
+    }
+}
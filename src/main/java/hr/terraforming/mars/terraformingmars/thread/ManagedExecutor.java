@@ -0,0 +1,150 @@
+package hr.terraforming.mars.terraformingmars.thread;
+
+import hr.terraforming.mars.terraformingmars.network.metrics.LatencyHistogram;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public class ManagedExecutor implements Executor {
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int maxConcurrency;
+    private final int maxQueued;
+    private final Semaphore permits;
+    private final ExecutorService threads;
+    private final Set<Future<?>> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    @Getter
+    private final LatencyHistogram queueLatency = new LatencyHistogram();
+    @Getter
+    private final LatencyHistogram runLatency = new LatencyHistogram();
+
+    public ManagedExecutor(String name, int maxConcurrency, int maxQueued) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = maxQueued;
+        this.permits = new Semaphore(maxConcurrency);
+        this.threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        submit(task);
+    }
+
+    public Future<?> submit(Runnable task) {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            throw new RejectedExecutionException("Executor " + name + " has " + maxQueued + " tasks waiting");
+        }
+
+        long submittedAt = System.nanoTime();
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        inFlight.add(completion);
+        completion.whenComplete((_, _) -> inFlight.remove(completion));
+
+        try {
+            Future<?> running = threads.submit(() -> runBounded(task, submittedAt, completion));
+            completion.whenComplete((_, _) -> {
+                if (completion.isCancelled()) {
+                    running.cancel(true);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            inFlight.remove(completion);
+            throw e;
+        }
+        return completion;
+    }
+
+    private void runBounded(Runnable task, long submittedAt, CompletableFuture<Void> completion) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException _) {
+            queued.decrementAndGet();
+            completion.cancel(false);
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        queued.decrementAndGet();
+        active.incrementAndGet();
+        long startedAt = System.nanoTime();
+        queueLatency.recordNanos(startedAt - submittedAt);
+
+        try {
+            task.run();
+            completed.increment();
+            completion.complete(null);
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.error("Task on executor {} failed", name, e);
+            completion.completeExceptionally(e);
+        } finally {
+            runLatency.recordNanos(System.nanoTime() - startedAt);
+            active.decrementAndGet();
+            permits.release();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queued.get();
+    }
+
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public int cancelAll() {
+        int cancelled = 0;
+        for (Future<?> future : inFlight) {
+            if (future.cancel(true)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    public boolean shutdown(Duration timeout) {
+        threads.shutdown();
+        try {
+            if (threads.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.warn("Executor {} did not finish within {} ms, interrupting {} tasks", name, timeout.toMillis(), inFlight.size());
+        threads.shutdownNow();
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return name + "[queued=" + getQueueDepth() + ", active=" + getActiveCount() + "/" + maxConcurrency
+                + ", completed=" + getCompletedCount() + ", failed=" + getFailedCount()
+                + ", wait{" + queueLatency + "}, run{" + runLatency + "}]";
+    }
+}
@@ -0,0 +1,64 @@
+package hr.terraforming.mars.terraformingmars.thread;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+public class SerialExecutor implements Executor {
+
+    private final Executor backingExecutor;
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private Runnable active;
+
+    public SerialExecutor(Executor backingExecutor) {
+        this.backingExecutor = backingExecutor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Runnable next = null;
+        synchronized (this) {
+            tasks.add(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Serial task failed", e);
+                } finally {
+                    scheduleNext();
+                }
+            });
+
+            if (active == null) {
+                active = tasks.poll();
+                next = active;
+            }
+        }
+        dispatch(next);
+    }
+
+    private void scheduleNext() {
+        Runnable next;
+        synchronized (this) {
+            active = tasks.poll();
+            next = active;
+        }
+        dispatch(next);
+    }
+
+    private void dispatch(Runnable next) {
+        if (next == null) {
+            return;
+        }
+
+        try {
+            backingExecutor.execute(next);
+        } catch (RejectedExecutionException e) {
+            log.warn("Backing executor rejected a serial task, running it on the caller: {}", e.getMessage());
+            next.run();
+        }
+    }
+}
@@ -15,4 +15,12 @@ public class DialogUtils {
         alert.setContentText(message);
         alert.showAndWait();
     }
+
+    public static void showNotification(Alert.AlertType alertType, String title, String message) {
+        Alert alert = new Alert(alertType);
+        alert.setTitle(title);
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.show();
+    }
 }
@@ -0,0 +1,55 @@
+package hr.terraforming.mars.terraformingmars.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+
+@Slf4j
+public class FileUtils {
+
+    private static final int WRITE_CHUNK_SIZE = 64 * 1024;
+
+    private FileUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void writeAtomically(Path target, ByteBuffer header, byte[] payload, LongConsumer onProgress) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(payload);
+            while (buffer.hasRemaining()) {
+                buffer.limit(Math.min(buffer.position() + WRITE_CHUNK_SIZE, payload.length));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.limit(payload.length);
+                onProgress.accept(buffer.position());
+            }
+            channel.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    public static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Cannot sync directory {}: {}", directory, e.getMessage());
+        }
+    }
+}
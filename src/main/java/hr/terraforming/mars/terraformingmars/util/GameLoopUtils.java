@@ -0,0 +1,46 @@
+package hr.terraforming.mars.terraformingmars.util;
+
+import hr.terraforming.mars.terraformingmars.enums.PlayerType;
+import hr.terraforming.mars.terraformingmars.model.ApplicationConfiguration;
+import hr.terraforming.mars.terraformingmars.network.GameLoop;
+import hr.terraforming.mars.terraformingmars.network.GameServerThread;
+import javafx.application.Platform;
+
+public class GameLoopUtils {
+
+    private GameLoopUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static void runInGameLoop(Runnable command) {
+        GameLoop gameLoop = hostGameLoop();
+        if (gameLoop != null) {
+            gameLoop.execute(command);
+        } else {
+            command.run();
+        }
+    }
+
+    public static void submitToGameLoop(Runnable command) {
+        GameLoop gameLoop = hostGameLoop();
+        if (gameLoop != null) {
+            gameLoop.submit(command);
+        } else {
+            Platform.runLater(command);
+        }
+    }
+
+    public static void runOnFxThread(Runnable command) {
+        if (Platform.isFxApplicationThread()) {
+            command.run();
+        } else {
+            Platform.runLater(command);
+        }
+    }
+
+    private static GameLoop hostGameLoop() {
+        var config = ApplicationConfiguration.getInstance();
+        GameServerThread server = config.getGameServer();
+        return config.getPlayerType() == PlayerType.HOST && server != null ? server.getGameLoop() : null;
+    }
+}
@@ -1,22 +1,29 @@
 package hr.terraforming.mars.terraformingmars.util;
 
 import hr.terraforming.mars.terraformingmars.enums.ActionType;
+import hr.terraforming.mars.terraformingmars.exception.FxmlLoadException;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationKey;
+import hr.terraforming.mars.terraformingmars.jndi.ConfigurationReader;
+import hr.terraforming.mars.terraformingmars.journal.JournalTailFollower;
+import hr.terraforming.mars.terraformingmars.journal.MoveEventBus;
+import hr.terraforming.mars.terraformingmars.journal.MoveJournal;
+import hr.terraforming.mars.terraformingmars.journal.MoveLogCursor;
 import hr.terraforming.mars.terraformingmars.model.Card;
 import hr.terraforming.mars.terraformingmars.model.GameManager;
 import hr.terraforming.mars.terraformingmars.model.GameMove;
 import hr.terraforming.mars.terraformingmars.model.Player;
-import hr.terraforming.mars.terraformingmars.thread.GetLastGameMoveThread;
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import hr.terraforming.mars.terraformingmars.thread.AppExecutors;
+import hr.terraforming.mars.terraformingmars.thread.SaveNewGameMoveThread;
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Label;
-import javafx.util.Duration;
 import lombok.extern.slf4j.Slf4j;
-import java.io.*;
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
 
 @Slf4j
 public class GameMoveUtils {
@@ -25,71 +32,141 @@ public class GameMoveUtils {
         throw new IllegalStateException("Utility class");
     }
 
-    private static final String GAME_MOVE_HISTORY_FILE_NAME = "gameMoves/moves.dat";
+    private static final Path MOVE_JOURNAL_PATH = Path.of("gameMoves", "moves.journal");
+    private static final Path LEGACY_MOVE_HISTORY_PATH = Path.of("gameMoves", "moves.dat");
+
+    private static MoveJournal journal;
+
+    public static void journalMove(GameMove move) {
+        AppExecutors.journal().execute(new SaveNewGameMoveThread(move));
+    }
 
     public static void saveNewGameMove(GameMove newGameMove) {
-        List<GameMove> gameMoveList = loadAllGameMoves();
-        gameMoveList.add(newGameMove);
+        try {
+            journal().append(newGameMove);
+        } catch (IOException e) {
+            log.error("Failed to append game move to journal '{}'", MOVE_JOURNAL_PATH, e);
+        }
 
-        File file = new File(GAME_MOVE_HISTORY_FILE_NAME);
-        File parentDir = file.getParentFile();
+        MoveEventBus.publish(newGameMove);
+    }
 
-        if (parentDir != null && !parentDir.exists() && !parentDir.mkdirs()) {
-                log.error("Failed to create directory: {}", parentDir.getAbsolutePath());
-                return;
-            }
+    public static long getJournalSequence() throws IOException {
+        return journal().getSequence();
+    }
+
+    public static long getJournalBaseSequence() throws IOException {
+        return journal().getBaseSequence();
+    }
 
-        try (ObjectOutputStream outputStream = new ObjectOutputStream(new FileOutputStream(file))) {
-            outputStream.writeObject(gameMoveList);
+    public static MoveLogCursor openJournalFrom(long sequence) throws IOException {
+        return journal().cursorFrom(sequence);
+    }
+
+    public static void syncJournal() throws IOException {
+        journal().sync();
+    }
+
+    public static void compactJournal(long sequence) {
+        try {
+            journal().compact(sequence);
         } catch (IOException e) {
-            log.error("Failed to save game moves to file '{}'", GAME_MOVE_HISTORY_FILE_NAME, e);
+            log.error("Failed to compact game move journal '{}'", MOVE_JOURNAL_PATH, e);
         }
     }
 
     public static Optional<GameMove> getLastGameMove() {
-        List<GameMove> gameMoveList = loadAllGameMoves();
-        if (gameMoveList.isEmpty()) {
+        try {
+            Optional<GameMove> lastMove = journal().getLastMove();
+            if (lastMove.isPresent()) {
+                return lastMove;
+            }
+        } catch (IOException e) {
+            log.error("Error opening game move journal: '{}'", e.getMessage());
+        }
+
+        try {
+            return XmlUtils.readLastGameMove();
+        } catch (FxmlLoadException e) {
+            log.error("Error reading the last game move: '{}'", e.getMessage());
             return Optional.empty();
         }
-        return Optional.of(gameMoveList.getLast());
     }
 
-    @SuppressWarnings("unchecked")
-    private static List<GameMove> loadAllGameMoves() {
-        File file = new File(GAME_MOVE_HISTORY_FILE_NAME);
-        if (!file.exists()) {
-            return new ArrayList<>();
+    private static synchronized MoveJournal journal() throws IOException {
+        if (journal == null) {
+            journal = MoveJournal.open(MOVE_JOURNAL_PATH);
         }
+        return journal;
+    }
 
-        try (ObjectInputStream inputStream = new ObjectInputStream(new FileInputStream(file))) {
-            return (List<GameMove>) inputStream.readObject();
-        } catch (IOException | ClassNotFoundException e) {
-            log.error("Error loading game moves: '{}'", e.getMessage());
-            return new ArrayList<>();
+    public static synchronized void closeMoveJournal() {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.close();
+        } catch (IOException e) {
+            log.error("Failed to close game move journal.", e);
+        } finally {
+            journal = null;
         }
     }
 
     public static void deleteMoveHistoryFile() {
-        File file = new File(GAME_MOVE_HISTORY_FILE_NAME);
-        if (file.exists()) {
+        MoveEventBus.reset();
+        AppExecutors.journal().execute(GameMoveUtils::deleteJournalFiles);
+    }
+
+    private static synchronized void deleteJournalFiles() {
+        closeMoveJournal();
+
+        for (Path path : List.of(MOVE_JOURNAL_PATH, LEGACY_MOVE_HISTORY_PATH)) {
             try {
-                Files.delete(file.toPath());
-                log.info("Game move history file deleted.");
+                if (Files.deleteIfExists(path)) {
+                    log.info("Game move history file {} deleted.", path);
+                }
             } catch (IOException e) {
-                log.error("Failed to delete game move history file.", e);
+                log.error("Failed to delete game move history file {}.", path, e);
             }
         }
     }
 
-    public static Timeline createLastMoveTimeline(Label lastMoveLabel) {
-        Timeline lastMoveTimeline = new Timeline(new KeyFrame(Duration.seconds(0.5), _ -> {
-            GetLastGameMoveThread thread = new GetLastGameMoveThread(lastMoveLabel);
-            Thread t = new Thread(thread);
-            t.setDaemon(true);
-            t.start();
-        }));
-        lastMoveTimeline.setCycleCount(Animation.INDEFINITE);
-        return lastMoveTimeline;
+    public static Runnable subscribeToLastMove(Label lastMoveLabel) {
+        Consumer<GameMove> updateLabel = move -> Platform.runLater(() -> updateLastMoveLabel(lastMoveLabel, move));
+
+        if (MoveEventBus.getLastMove().isEmpty()) {
+            AppExecutors.journal().execute(() -> {
+                if (MoveEventBus.getLastMove().isEmpty()) {
+                    getLastGameMove().ifPresent(updateLabel);
+                }
+            });
+        }
+        Runnable unsubscribe = MoveEventBus.subscribe(updateLabel);
+        JournalTailFollower follower = followJournal();
+
+        return () -> {
+            unsubscribe.run();
+            if (follower != null) {
+                follower.close();
+            }
+        };
+    }
+
+    private static JournalTailFollower followJournal() {
+        boolean follow = Boolean.parseBoolean(
+                ConfigurationReader.getStringValue(ConfigurationKey.JOURNAL_FOLLOW, "false").trim());
+        if (!follow) {
+            return null;
+        }
+
+        try {
+            return JournalTailFollower.start(MOVE_JOURNAL_PATH, MoveEventBus::publish);
+        } catch (IOException e) {
+            log.warn("Cannot follow game move journal '{}': {}", MOVE_JOURNAL_PATH, e.getMessage());
+            return null;
+        }
     }
 
     public static void updateLastMoveLabel(Label label, GameMove move) {
@@ -145,8 +222,9 @@ public class GameMoveUtils {
             log.debug("Initial setup move successfully saved to XML!");
 
         } catch (Exception e) {
-            log.error("Fatal error occurred during initial state saving.");
-            new Alert(Alert.AlertType.ERROR, "Error saving initial state for replay. See console for details.\n\n" + e.getMessage()).showAndWait();
+            log.error("Fatal error occurred during initial state saving.", e);
+            Platform.runLater(() -> new Alert(Alert.AlertType.ERROR,
+                    "Error saving initial state for replay. See console for details.\n\n" + e.getMessage()).showAndWait());
         }
     }
 }
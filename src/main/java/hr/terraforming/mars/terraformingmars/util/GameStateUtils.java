@@ -0,0 +1,36 @@
+package hr.terraforming.mars.terraformingmars.util;
+
+import hr.terraforming.mars.terraformingmars.model.GameState;
+
+import java.io.*;
+
+public class GameStateUtils {
+
+    private static final int INITIAL_BUFFER_SIZE = 32 * 1024;
+
+    private GameStateUtils() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static byte[] serialize(GameState state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(state);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static GameState deserialize(byte[] bytes) throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            GameState state = (GameState) in.readObject();
+            state.gameManager().relink(state.gameBoard());
+            return state;
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new InvalidObjectException("Data does not contain a game state: " + e.getMessage());
+        }
+    }
+
+    public static GameState copyOf(GameState state) throws IOException {
+        return deserialize(serialize(state));
+    }
+}
@@ -2,6 +2,7 @@ package hr.terraforming.mars.terraformingmars.util;
 
 import hr.terraforming.mars.terraformingmars.config.ResourceConfig;
 import hr.terraforming.mars.terraformingmars.exception.FxmlLoadException;
+import hr.terraforming.mars.terraformingmars.thread.AppExecutors;
 import javafx.animation.FadeTransition;
 import javafx.animation.PauseTransition;
 import javafx.application.Platform;
@@ -151,7 +152,7 @@ public class ScreenUtils {
             });
 
             delay.play();
-            new Thread(loadTask).start();
+            AppExecutors.io().execute(loadTask);
         };
 
         PauseTransition initialDelay = new PauseTransition(Duration.seconds(INITIAL_DELAY_SECONDS));
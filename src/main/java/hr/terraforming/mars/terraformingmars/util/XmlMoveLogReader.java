@@ -0,0 +1,202 @@
+package hr.terraforming.mars.terraformingmars.util;
+
+import hr.terraforming.mars.terraformingmars.enums.ActionType;
+import hr.terraforming.mars.terraformingmars.enums.TileType;
+import hr.terraforming.mars.terraformingmars.exception.FxmlLoadException;
+import hr.terraforming.mars.terraformingmars.journal.MoveLogCursor;
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+class XmlMoveLogReader implements MoveLogCursor {
+
+    private static final String GAME_MOVE = "GameMove";
+    private static final String MOVE_START_TAG = "<GameMove>";
+    private static final String MOVE_END_TAG = "</GameMove>";
+    private static final int TAIL_CHUNK_SIZE = 4096;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final XMLInputFactory INPUT_FACTORY = createSecureInputFactory();
+
+    private final InputStream input;
+    private final XMLStreamReader reader;
+    private GameMove nextMove;
+    private boolean exhausted;
+
+    private XmlMoveLogReader(InputStream input, XMLStreamReader reader) {
+        this.input = input;
+        this.reader = reader;
+    }
+
+    private static XMLInputFactory createSecureInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    static XmlMoveLogReader open(Path path) throws IOException {
+        InputStream input = new BufferedInputStream(Files.newInputStream(path));
+        try {
+            return new XmlMoveLogReader(input, INPUT_FACTORY.createXMLStreamReader(input));
+        } catch (XMLStreamException e) {
+            input.close();
+            throw new IOException("Cannot read move log " + path, e);
+        }
+    }
+
+    static int count(Path path) throws IOException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(path))) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(input);
+            int count = 0;
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && GAME_MOVE.equals(reader.getLocalName())) {
+                        count++;
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+            return count;
+        } catch (XMLStreamException e) {
+            throw new IOException("Cannot count moves in " + path, e);
+        }
+    }
+
+    static Optional<GameMove> readLast(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long end = channel.size();
+            long start = end;
+            String window = "";
+
+            while (start > 0) {
+                int chunk = (int) Math.min(TAIL_CHUNK_SIZE, start);
+                start -= chunk;
+                window = read(channel, start, chunk) + window;
+
+                int moveEnd = window.lastIndexOf(MOVE_END_TAG);
+                int moveStart = moveEnd >= 0 ? window.lastIndexOf(MOVE_START_TAG, moveEnd) : -1;
+                if (moveStart >= 0) {
+                    byte[] fragment = window.substring(moveStart, moveEnd + MOVE_END_TAG.length())
+                            .getBytes(StandardCharsets.ISO_8859_1);
+                    try (XmlMoveLogReader reader = new XmlMoveLogReader(null,
+                            INPUT_FACTORY.createXMLStreamReader(new ByteArrayInputStream(fragment), StandardCharsets.UTF_8.name()))) {
+                        return reader.hasNext() ? Optional.of(reader.next()) : Optional.empty();
+                    }
+                }
+            }
+            return Optional.empty();
+        } catch (XMLStreamException e) {
+            throw new IOException("Cannot read the last move of " + path, e);
+        }
+    }
+
+    private static String read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        int read;
+        do {
+            read = channel.read(buffer, position + buffer.position());
+        } while (read >= 0 && buffer.hasRemaining());
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextMove == null && !exhausted) {
+            nextMove = advance();
+            exhausted = nextMove == null;
+        }
+        return nextMove != null;
+    }
+
+    @Override
+    public GameMove next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        GameMove move = nextMove;
+        nextMove = null;
+        return move;
+    }
+
+    @Override
+    public void close() {
+        exhausted = true;
+        nextMove = null;
+
+        try {
+            reader.close();
+            if (input != null) {
+                input.close();
+            }
+        } catch (XMLStreamException | IOException e) {
+            throw new FxmlLoadException("Error closing game moves XML reader", e);
+        }
+    }
+
+    private GameMove advance() {
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && GAME_MOVE.equals(reader.getLocalName())) {
+                    return readMove();
+                }
+            }
+            return null;
+        } catch (XMLStreamException | IllegalArgumentException | DateTimeParseException e) {
+            throw new FxmlLoadException("Error reading game moves from XML", e);
+        }
+    }
+
+    private GameMove readMove() throws XMLStreamException {
+        String playerName = null;
+        ActionType actionType = null;
+        String details = null;
+        String message = null;
+        LocalDateTime timestamp = null;
+        Integer row = null;
+        Integer col = null;
+        TileType tileType = null;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && GAME_MOVE.equals(reader.getLocalName())) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+
+            String name = reader.getLocalName();
+            String text = reader.getElementText();
+            switch (name) {
+                case "PlayerName" -> playerName = text;
+                case "ActionType" -> actionType = ActionType.valueOf(text);
+                case "Details" -> details = text;
+                case "Message" -> message = text;
+                case "Timestamp" -> timestamp = LocalDateTime.parse(text, FORMATTER);
+                case "Row" -> row = Integer.parseInt(text);
+                case "Col" -> col = Integer.parseInt(text);
+                case "TileType" -> tileType = TileType.valueOf(text);
+                default -> { /*Unknown elements are ignored*/ }
+            }
+        }
+
+        return new GameMove(playerName, actionType, details, message, row, col, tileType, timestamp);
+    }
+}
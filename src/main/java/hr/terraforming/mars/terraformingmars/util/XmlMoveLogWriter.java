@@ -0,0 +1,186 @@
+package hr.terraforming.mars.terraformingmars.util;
+
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeFormatter;
+
+@Slf4j
+class XmlMoveLogWriter implements Closeable {
+
+    private static final String ROOT_START_TAG = "<GameMoves>";
+    private static final String MOVE_END_TAG = "</GameMove>";
+    private static final byte[] PROLOG = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + ROOT_START_TAG)
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ROOT_END_TAG = "</GameMoves>".getBytes(StandardCharsets.UTF_8);
+    private static final int TAIL_PROBE_SIZE = 256;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private final Path path;
+    private final FileChannel channel;
+    private final int batchSize;
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+    private int pendingMoves;
+    private long rootEndOffset;
+
+    private XmlMoveLogWriter(Path path, FileChannel channel, int batchSize) {
+        this.path = path;
+        this.channel = channel;
+        this.batchSize = batchSize;
+    }
+
+    static XmlMoveLogWriter open(Path path, int batchSize) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        XmlMoveLogWriter writer = new XmlMoveLogWriter(path, channel, Math.max(1, batchSize));
+
+        try {
+            writer.recover();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return writer;
+    }
+
+    synchronized void append(GameMove move) throws IOException, XMLStreamException {
+        XMLStreamWriter xml = OUTPUT_FACTORY.createXMLStreamWriter(pending, StandardCharsets.UTF_8.name());
+        try {
+            xml.writeStartElement("GameMove");
+            writeElement(xml, "PlayerName", move.playerName());
+            writeElement(xml, "ActionType", move.actionType().name());
+            writeElement(xml, "Details", move.details());
+            writeElement(xml, "Message", move.message());
+            writeElement(xml, "Timestamp", move.timestamp().format(FORMATTER));
+
+            if (move.row() != null) {
+                writeElement(xml, "Row", move.row().toString());
+            }
+            if (move.col() != null) {
+                writeElement(xml, "Col", move.col().toString());
+            }
+            if (move.tileType() != null) {
+                writeElement(xml, "TileType", move.tileType().name());
+            }
+            xml.writeEndElement();
+            xml.flush();
+        } finally {
+            xml.close();
+        }
+
+        if (++pendingMoves >= batchSize) {
+            flush();
+        }
+    }
+
+    synchronized void flush() throws IOException {
+        if (pendingMoves == 0) {
+            return;
+        }
+
+        byte[] fragments = pending.toByteArray();
+        ByteBuffer buffer = ByteBuffer.allocate(fragments.length + ROOT_END_TAG.length);
+        buffer.put(fragments).put(ROOT_END_TAG).flip();
+        writeFully(buffer, rootEndOffset);
+        channel.force(false);
+
+        rootEndOffset += fragments.length;
+        pending.reset();
+        pendingMoves = 0;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private static void writeElement(XMLStreamWriter xml, String name, String value) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(value != null ? value : "");
+        xml.writeEndElement();
+    }
+
+    private void recover() throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            startNewDocument();
+            return;
+        }
+
+        int probeSize = (int) Math.min(size, TAIL_PROBE_SIZE);
+        String tail = read(size - probeSize, probeSize);
+        int rootEnd = tail.lastIndexOf(new String(ROOT_END_TAG, StandardCharsets.ISO_8859_1));
+        if (rootEnd >= 0 && tail.substring(rootEnd + ROOT_END_TAG.length).isBlank()) {
+            rootEndOffset = size - probeSize + rootEnd;
+            channel.truncate(rootEndOffset + ROOT_END_TAG.length);
+            return;
+        }
+
+        String content = read(0, Math.toIntExact(size));
+        int rootStart = content.indexOf(ROOT_START_TAG);
+        if (rootStart < 0) {
+            log.warn("Move log {} has no {} root, starting a new one", path, ROOT_START_TAG);
+            startNewDocument();
+            return;
+        }
+
+        int lastMoveEnd = content.lastIndexOf(MOVE_END_TAG);
+        long end = lastMoveEnd > rootStart ? lastMoveEnd + MOVE_END_TAG.length() : rootStart + ROOT_START_TAG.length();
+        log.warn("Move log {} ends in a partially written move, dropping the last {} bytes", path, size - end);
+
+        channel.truncate(end);
+        writeFully(ByteBuffer.wrap(ROOT_END_TAG), end);
+        channel.force(false);
+        rootEndOffset = end;
+    }
+
+    private void startNewDocument() throws IOException {
+        channel.truncate(0);
+        ByteBuffer buffer = ByteBuffer.allocate(PROLOG.length + ROOT_END_TAG.length);
+        buffer.put(PROLOG).put(ROOT_END_TAG).flip();
+        writeFully(buffer, 0);
+        channel.force(false);
+        rootEndOffset = PROLOG.length;
+    }
+
+    private String read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        int read;
+        do {
+            read = channel.read(buffer, position + buffer.position());
+        } while (read >= 0 && buffer.hasRemaining());
+        return new String(buffer.array(), 0, buffer.position(), StandardCharsets.ISO_8859_1);
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package hr.terraforming.mars.terraformingmars.view;
 import hr.terraforming.mars.terraformingmars.controller.game.*;
 import hr.terraforming.mars.terraformingmars.controller.setup.*;
 import hr.terraforming.mars.terraformingmars.model.*;
+import hr.terraforming.mars.terraformingmars.util.GameLoopUtils;
 import hr.terraforming.mars.terraformingmars.util.GameMoveUtils;
 import hr.terraforming.mars.terraformingmars.util.ScreenUtils;
 import javafx.scene.Scene;
@@ -128,11 +129,13 @@ public class ScreenNavigator {
         currentPlayer.getHand().addAll(chosenCards);
 
         if (gameManager.hasMoreDraftPlayers()) {
-            showInitialCardDraftScreen(gameManager);
+            Player nextPlayer = gameManager.getCurrentDraftPlayer();
+            List<Card> offer = gameManager.drawCards(STARTING_CARDS);
+            GameLoopUtils.runOnFxThread(() -> showInitialCardDraftScreen(nextPlayer, offer, gameManager));
         } else {
             GameMoveUtils.saveInitialSetupMove(gameManager);
             GameState gameState = new GameState(gameManager, gameManager.getGameBoard());
-            startGameWithChosenCards(gameState);
+            GameLoopUtils.runOnFxThread(() -> startGameWithChosenCards(gameState));
         }
     }
 
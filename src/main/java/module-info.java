@@ -37,4 +37,5 @@ module hr.terraforming.mars.terraformingmars {
     opens hr.terraforming.mars.terraformingmars.controller.game to javafx.fxml;
     exports hr.terraforming.mars.terraformingmars.controller.game;
     exports hr.terraforming.mars.terraformingmars.network.message;
+    exports hr.terraforming.mars.terraformingmars.network.sync;
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+package hr.terraforming.mars.terraformingmars.journal;
+
+import hr.terraforming.mars.terraformingmars.enums.ActionType;
+import hr.terraforming.mars.terraformingmars.enums.TileType;
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private static GameMove move(int index) {
+        return new GameMove("Player " + (index % 2 + 1), ActionType.PLACE_TILE, "Move " + index, "placed a tile",
+                index, index + 1, TileType.CITY, LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000));
+    }
+
+    private static List<GameMove> readAll(MoveLogCursor cursor) throws IOException {
+        List<GameMove> moves = new ArrayList<>();
+        try (cursor) {
+            cursor.forEachRemaining(moves::add);
+        }
+        return moves;
+    }
+
+    @Test
+    void encodeAndDecodeRoundTripAllFields() throws IOException {
+        GameMove full = move(7);
+        GameMove sparse = new GameMove(null, ActionType.PASS_TURN, null, null, null, null, null, null);
+
+        assertEquals(full, MoveJournal.decode(MoveJournal.encode(full)));
+        assertEquals(sparse, MoveJournal.decode(MoveJournal.encode(sparse)));
+    }
+
+    @Test
+    void reopenRecoversAppendedMoves() throws IOException {
+        Path path = directory.resolve("moves.journal");
+        try (MoveJournal journal = MoveJournal.open(path, FsyncPolicy.BATCH, 4)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(move(i));
+            }
+        }
+
+        try (MoveJournal journal = MoveJournal.open(path, FsyncPolicy.BATCH, 4)) {
+            assertEquals(10, journal.size());
+            assertEquals(10, journal.getSequence());
+            assertEquals(move(9), journal.getLastMove().orElseThrow());
+            assertEquals(List.of(move(3), move(4)), readAll(journal.cursorFrom(3)).subList(0, 2));
+            assertEquals(7, readAll(journal.cursorFrom(3)).size());
+        }
+    }
+
+    @Test
+    void tornTailIsTruncatedOnOpen() throws IOException {
+        Path path = directory.resolve("moves.journal");
+        try (MoveJournal journal = MoveJournal.open(path, FsyncPolicy.MOVE, 1)) {
+            journal.append(move(0));
+            journal.append(move(1));
+        }
+        long intactSize = Files.size(path);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(12).putInt(64).putInt(0xBAD).putInt(1).flip());
+        }
+
+        try (MoveJournal journal = MoveJournal.open(path, FsyncPolicy.MOVE, 1)) {
+            assertEquals(2, journal.size());
+            assertEquals(intactSize, Files.size(path));
+            assertEquals(move(1), journal.getLastMove().orElseThrow());
+
+            journal.append(move(2));
+        }
+
+        try (MoveJournal journal = MoveJournal.open(path, FsyncPolicy.MOVE, 1)) {
+            assertEquals(List.of(move(0), move(1), move(2)), readAll(journal.cursor()));
+        }
+    }
+
+    @Test
+    void unsyncedRecordsAreRecoveredByScanningPastTheHeader() throws IOException {
+        Path path = directory.resolve("moves.journal");
+        MoveJournal writer = MoveJournal.open(path, FsyncPolicy.PHASE, 1);
+        writer.append(move(0));
+        writer.append(move(1));
+
+        try (MoveJournal journal = MoveJournal.open(path, FsyncPolicy.PHASE, 1)) {
+            assertEquals(2, journal.size());
+            assertEquals(move(1), journal.getLastMove().orElseThrow());
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test
+    void compactKeepsSequenceNumbers() throws IOException {
+        Path path = directory.resolve("moves.journal");
+        try (MoveJournal journal = MoveJournal.open(path, FsyncPolicy.MOVE, 1)) {
+            for (int i = 0; i < 6; i++) {
+                journal.append(move(i));
+            }
+            journal.compact(4);
+
+            assertEquals(4, journal.getBaseSequence());
+            assertEquals(6, journal.getSequence());
+            assertEquals(List.of(move(4), move(5)), readAll(journal.cursorFrom(4)));
+        }
+
+        try (MoveJournal journal = MoveJournal.open(path, FsyncPolicy.MOVE, 1)) {
+            assertEquals(4, journal.getBaseSequence());
+            assertEquals(2, journal.size());
+            assertEquals(move(5), journal.getLastMove().orElseThrow());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package hr.terraforming.mars.terraformingmars.network.codec;
+
+import hr.terraforming.mars.terraformingmars.config.ResourceConfig;
+import hr.terraforming.mars.terraformingmars.enums.ActionType;
+import hr.terraforming.mars.terraformingmars.enums.TileType;
+import hr.terraforming.mars.terraformingmars.factory.CardFactory;
+import hr.terraforming.mars.terraformingmars.model.*;
+import hr.terraforming.mars.terraformingmars.network.message.*;
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateSnapshot;
+import hr.terraforming.mars.terraformingmars.network.sync.PlayerSnapshot;
+import hr.terraforming.mars.terraformingmars.network.sync.StateProjection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StreamCorruptedException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryMessageCodecTest {
+
+    private final BinaryMessageCodec codec = BinaryMessageCodec.negotiate(
+            new ProtocolHelloMessage(BinaryMessageCodec.PROTOCOL_VERSION, 0L, false, 0L)).orElseThrow();
+
+    @BeforeEach
+    void loadCards() {
+        CardFactory.setConfig(new ResourceConfig(
+                "/hr/terraforming/mars/terraformingmars/",
+                "/hr/terraforming/mars/terraformingmars/css/styles.css",
+                "/hr/terraforming/mars/terraformingmars/data/cards.json"));
+        CardFactory.loadAllCards();
+    }
+
+    private Object roundTrip(Object message) throws StreamCorruptedException {
+        return codec.decode(codec.encode(message));
+    }
+
+    private GameState sampleState() {
+        Player ana = new Player("Ana", 1);
+        Player bruno = new Player("Bruno", 2);
+        GameBoard gameBoard = new GameBoard();
+        GameManager gameManager = new GameManager(List.of(ana, bruno), gameBoard);
+
+        List<Card> cards = CardFactory.getAllCards();
+        ana.addCardsToHand(cards.subList(0, 3));
+        bruno.addCardsToHand(cards.subList(3, 5));
+        ana.addMC(17);
+        gameBoard.placeOcean(gameBoard.getTileAt(3, 5), ana);
+        return new GameState(gameManager, gameBoard);
+    }
+
+    @Test
+    void varIntsRoundTripAcrossByteBoundaries() throws StreamCorruptedException {
+        int[] ints = {0, 1, 127, 128, 16_383, 16_384, Integer.MAX_VALUE};
+        int[] signedInts = {0, -1, 1, -64, 64, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        long[] longs = {0L, 127L, 128L, 1L << 35, Long.MAX_VALUE};
+        long[] signedLongs = {-1L, Long.MIN_VALUE, Long.MAX_VALUE};
+
+        WireWriter out = new WireWriter(NameCatalog.EMPTY);
+        for (int value : ints) out.writeVarInt(value);
+        for (int value : signedInts) out.writeSignedInt(value);
+        for (long value : longs) out.writeVarLong(value);
+        for (long value : signedLongs) out.writeSignedLong(value);
+
+        WireReader in = new WireReader(NameCatalog.EMPTY, out.toByteArray(), 0);
+        for (int value : ints) assertEquals(value, in.readVarInt());
+        for (int value : signedInts) assertEquals(value, in.readSignedInt());
+        for (long value : longs) assertEquals(value, in.readVarLong());
+        for (long value : signedLongs) assertEquals(value, in.readSignedLong());
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void smallVarIntsUseOneByte() {
+        assertEquals(1, new WireWriter(NameCatalog.EMPTY).writeVarInt(127).toByteArray().length);
+        assertEquals(2, new WireWriter(NameCatalog.EMPTY).writeVarInt(128).toByteArray().length);
+        assertEquals(1, new WireWriter(NameCatalog.EMPTY).writeSignedInt(-1).toByteArray().length);
+    }
+
+    @Test
+    void gameMovesRoundTrip() throws StreamCorruptedException {
+        GameMove placed = new GameMove("Ana", ActionType.PLACE_TILE, "Ocean", "placed an ocean", 3, 5,
+                TileType.OCEAN, LocalDateTime.of(2025, 1, 2, 3, 4, 5, 6_000));
+        GameMove passed = new GameMove("Bruno", ActionType.PASS_TURN, "", LocalDateTime.of(2025, 1, 2, 3, 4));
+
+        assertEquals(placed, roundTrip(placed));
+        assertEquals(passed, roundTrip(passed));
+    }
+
+    @Test
+    void controlMessagesRoundTrip() throws StreamCorruptedException {
+        List<Object> messages = List.of(
+                new PlayerNameMessage("Ana"),
+                new JoinRoomMessage("K7QX2M"),
+                new JoinRejectedMessage("K7QX2M", "Room is full"),
+                new JoinRejectedMessage(null, "Lobby is full"),
+                new SpectateMessage("K7QX2M"),
+                new CardChoiceMessage(List.of("Comet", "Asteroid")),
+                new ResumeSessionMessage("token", 42L),
+                new MoveAckMessage(7L, -1L),
+                new PingMessage(System.nanoTime()),
+                new StateAckMessage(12L));
+
+        for (Object message : messages) {
+            assertEquals(message, roundTrip(message));
+        }
+    }
+
+    @Test
+    void stateSnapshotsRoundTrip() throws StreamCorruptedException {
+        GameState state = sampleState();
+
+        StateSnapshotMessage decoded = (StateSnapshotMessage) roundTrip(new StateSnapshotMessage(9L, state));
+        GameState restored = (GameState) roundTrip(state);
+
+        assertEquals(9L, decoded.version());
+        assertEquals(GameStateSnapshot.capture(9L, state), GameStateSnapshot.capture(9L, decoded.state()));
+        assertEquals(GameStateSnapshot.capture(0L, state), GameStateSnapshot.capture(0L, restored));
+    }
+
+    @Test
+    void publicSnapshotsHideHandsButKeepTheirSize() throws StreamCorruptedException {
+        GameState state = sampleState();
+
+        byte[] payload = codec.encode(new StateSnapshotMessage(1L, state), StateProjection.PUBLIC);
+        StateSnapshotMessage decoded = (StateSnapshotMessage) codec.decode(payload);
+
+        for (PlayerSnapshot player : GameStateSnapshot.capture(1L, decoded.state()).players()) {
+            assertTrue(player.hand().isEmpty());
+            assertEquals(state.gameManager().getPlayerByName(player.name()).getHand().size(), player.handSize());
+        }
+    }
+
+    @Test
+    void olderProtocolsFallBackForSnapshots() {
+        BinaryMessageCodec older = BinaryMessageCodec.negotiate(
+                new ProtocolHelloMessage(3, 0L, false, 0L)).orElseThrow();
+
+        assertFalse(older.supports(sampleState()));
+        assertTrue(older.supports(new PingMessage(1L)));
+    }
+
+    @Test
+    void rejectsPayloadsWithAnotherProtocolVersion() {
+        byte[] payload = codec.encode(new PlayerNameMessage("Ana"));
+        payload[0] = (byte) (codec.getVersion() - 1);
+
+        assertThrows(StreamCorruptedException.class, () -> codec.decode(payload));
+    }
+
+    @Test
+    void rejectsTrailingBytes() {
+        byte[] payload = codec.encode(new PingMessage(1L));
+        byte[] padded = Arrays.copyOf(payload, payload.length + 1);
+
+        assertThrows(StreamCorruptedException.class, () -> codec.decode(padded));
+    }
+}
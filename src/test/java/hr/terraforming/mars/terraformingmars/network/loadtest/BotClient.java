@@ -0,0 +1,190 @@
+package hr.terraforming.mars.terraformingmars.network.loadtest;
+
+import hr.terraforming.mars.terraformingmars.enums.ActionType;
+import hr.terraforming.mars.terraformingmars.enums.GamePhase;
+import hr.terraforming.mars.terraformingmars.model.*;
+import hr.terraforming.mars.terraformingmars.network.codec.BinaryMessageCodec;
+import hr.terraforming.mars.terraformingmars.network.message.*;
+import hr.terraforming.mars.terraformingmars.network.metrics.LatencyHistogram;
+import hr.terraforming.mars.terraformingmars.network.sync.GameStateDelta;
+import hr.terraforming.mars.terraformingmars.network.sync.StateHistory;
+import hr.terraforming.mars.terraformingmars.network.transport.FrameCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.Socket;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+class BotClient implements Runnable {
+
+    private static final int CARD_COST = 3;
+    private static final int MAX_CARDS_BOUGHT = 2;
+
+    private final String hostname;
+    private final int port;
+    private final String playerName;
+    private final LatencyHistogram moveLatency;
+    private final LongAdder bytesReceived;
+    private final LongAdder movesSent = new LongAdder();
+    private DataOutputStream output;
+    private BinaryMessageCodec codec;
+    private GameState state;
+    private long version = StateHistory.NO_VERSION;
+    private long pendingMoveVersion = StateHistory.NO_VERSION;
+    private long pendingMoveSentAt;
+    private volatile boolean finished;
+
+    BotClient(String hostname, int port, String playerName, LatencyHistogram moveLatency, LongAdder bytesReceived) {
+        this.hostname = hostname;
+        this.port = port;
+        this.playerName = playerName;
+        this.moveLatency = moveLatency;
+        this.bytesReceived = bytesReceived;
+    }
+
+    @Override
+    public void run() {
+        try (Socket socket = new Socket(hostname, port);
+             DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+             DataInputStream inputStream = new DataInputStream(new BufferedInputStream(
+                     new CountingInputStream(socket.getInputStream(), bytesReceived)))) {
+
+            socket.setTcpNoDelay(true);
+            this.output = outputStream;
+
+            send(BinaryMessageCodec.localHello());
+            send(new PlayerNameMessage(playerName));
+
+            while (!finished) {
+                Object message = FrameCodec.readMessage(inputStream, codec);
+                if (message instanceof FrameCodec.Sequenced(long _, Object inner)) {
+                    message = inner;
+                }
+                handle(message);
+            }
+        } catch (IOException e) {
+            if (!finished) {
+                log.warn("{} lost its connection: {}", playerName, e.getMessage());
+            }
+        }
+    }
+
+    private void handle(Object message) throws IOException {
+        switch (message) {
+            case ProtocolHelloMessage msg -> codec = BinaryMessageCodec.negotiate(msg).orElse(null);
+            case PingMessage msg -> send(new PongMessage(msg.timestamp()));
+            case CorporationOfferMessage msg -> send(new CorporationChoiceMessage(msg.corporationNames().getFirst()));
+            case CardOfferMessage msg -> chooseCards(msg);
+            case StateSnapshotMessage msg -> onState(msg.version(), msg.state());
+            case StateDeltaMessage msg -> applyDelta(msg.delta());
+            case GameOverMessage _ -> finished = true;
+            default -> log.trace("{} ignoring {}", playerName, message.getClass().getSimpleName());
+        }
+    }
+
+    private void applyDelta(GameStateDelta delta) throws IOException {
+        if (state == null || delta.baseVersion() != version) {
+            version = StateHistory.NO_VERSION;
+            send(new StateAckMessage(StateHistory.NO_VERSION));
+            return;
+        }
+
+        delta.applyTo(state);
+        if (!delta.matches(state)) {
+            log.warn("{} diverged from the host at v{}, requesting a snapshot", playerName, delta.version());
+            version = StateHistory.NO_VERSION;
+            send(new StateAckMessage(StateHistory.NO_VERSION));
+            return;
+        }
+        onState(delta.version(), state);
+    }
+
+    private void onState(long newVersion, GameState newState) throws IOException {
+        newState.gameManager().relink(newState.gameBoard());
+        state = newState;
+        version = newVersion;
+        send(new StateAckMessage(version));
+
+        if (pendingMoveVersion != StateHistory.NO_VERSION && version > pendingMoveVersion) {
+            moveLatency.recordNanos(System.nanoTime() - pendingMoveSentAt);
+            pendingMoveVersion = StateHistory.NO_VERSION;
+        }
+
+        if (pendingMoveVersion == StateHistory.NO_VERSION && isMyTurn()) {
+            takeAction();
+        }
+    }
+
+    private boolean isMyTurn() {
+        GameManager gameManager = state.gameManager();
+        return gameManager.getCurrentPhase() == GamePhase.ACTIONS
+                && playerName.equals(gameManager.getCurrentPlayer().getName());
+    }
+
+    private void takeAction() throws IOException {
+        Player me = state.gameManager().getPlayerByName(playerName);
+        Optional<Card> playable = me.getHand().stream().filter(me::canPlayCard).findFirst();
+
+        GameMove move = playable
+                .map(card -> new GameMove(playerName, ActionType.PLAY_CARD, card.getName(),
+                        "played card: " + card.getName(), LocalDateTime.now()))
+                .orElseGet(() -> new GameMove(playerName, ActionType.PASS_TURN, "", "passed their turn",
+                        LocalDateTime.now()));
+
+        pendingMoveVersion = version;
+        pendingMoveSentAt = System.nanoTime();
+        movesSent.increment();
+        send(move);
+    }
+
+    private void chooseCards(CardOfferMessage msg) throws IOException {
+        Player me = state != null ? state.gameManager().getPlayerByName(playerName) : null;
+        int affordable = me != null ? me.getMC() / CARD_COST : 0;
+        List<String> chosen = msg.cardNames().stream().limit(Math.min(affordable, MAX_CARDS_BOUGHT)).toList();
+
+        send(new CardChoiceMessage(chosen));
+        if (state != null && state.gameManager().getGeneration() > 0) {
+            send(new GameMove(playerName, ActionType.RESEARCH_COMPLETE, "", "finished research", LocalDateTime.now()));
+        }
+    }
+
+    private void send(Object message) throws IOException {
+        FrameCodec.writeMessage(output, message, codec);
+    }
+
+    long movesSent() {
+        return movesSent.sum();
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        private final LongAdder counter;
+
+        CountingInputStream(InputStream in, LongAdder counter) {
+            super(in);
+            this.counter = counter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                counter.increment();
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                counter.add(read);
+            }
+            return read;
+        }
+    }
+}
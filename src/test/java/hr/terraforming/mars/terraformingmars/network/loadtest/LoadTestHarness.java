@@ -0,0 +1,132 @@
+package hr.terraforming.mars.terraformingmars.network.loadtest;
+
+import hr.terraforming.mars.terraformingmars.config.ResourceConfig;
+import hr.terraforming.mars.terraformingmars.factory.CardFactory;
+import hr.terraforming.mars.terraformingmars.model.*;
+import hr.terraforming.mars.terraformingmars.network.GameLoop;
+import hr.terraforming.mars.terraformingmars.network.GameServerThread;
+import hr.terraforming.mars.terraformingmars.network.metrics.LatencyHistogram;
+import hr.terraforming.mars.terraformingmars.network.transport.NioServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+@Slf4j
+public class LoadTestHarness {
+
+    private static final int DEFAULT_PLAYERS = 4;
+    private static final int DEFAULT_GENERATIONS = 5;
+    private static final int DEFAULT_PORT = 41_000;
+    private static final long SETUP_POLL_MS = 20;
+    private static final long GAME_TIMEOUT_MINUTES = 5;
+    private static final List<String> SERVER_THREAD_PREFIXES = List.of("nio-loop", "game-loop", "heartbeat");
+
+    private final int players;
+    private final int generations;
+    private final int port;
+
+    public LoadTestHarness(int players, int generations, int port) {
+        this.players = players;
+        this.generations = generations;
+        this.port = port;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        ResourceConfig config = new ResourceConfig(
+                "/hr/terraforming/mars/terraformingmars/",
+                "/hr/terraforming/mars/terraformingmars/css/styles.css",
+                "/hr/terraforming/mars/terraformingmars/data/cards.json"
+        );
+        CardFactory.setConfig(config);
+        CardFactory.loadAllCards();
+
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PLAYERS;
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_GENERATIONS;
+        int port = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PORT;
+
+        LoadTestReport report = new LoadTestHarness(players, generations, port).run();
+        log.info("Load test finished:\n{}", report);
+    }
+
+    public LoadTestReport run() throws InterruptedException {
+        List<Player> seats = new ArrayList<>();
+        for (int i = 1; i <= players; i++) {
+            seats.add(new Player("Player " + i, i));
+        }
+
+        GameBoard gameBoard = new GameBoard();
+        GameManager gameManager = new GameManager(seats, gameBoard);
+        gameManager.shuffleCorporations();
+        gameManager.shuffleCards();
+
+        GameServerThread server = new GameServerThread(gameManager, gameBoard, null, players, null, new GameLoop("game-loop"));
+        ScriptedRules rules = new ScriptedRules(gameManager, gameBoard, server, generations);
+        server.setHeadlessMoveProcessor(rules);
+
+        NioServer transport = new NioServer(port, NioServer.defaultEventLoopCount(), server::attach);
+        transport.start();
+        server.startHeartbeat();
+
+        LatencyHistogram moveLatency = new LatencyHistogram();
+        LongAdder bytesReceived = new LongAdder();
+        List<BotClient> bots = new ArrayList<>();
+        List<Thread> botThreads = new ArrayList<>();
+
+        for (int i = 1; i <= players; i++) {
+            BotClient bot = new BotClient("localhost", port, "Bot " + i, moveLatency, bytesReceived);
+            bots.add(bot);
+            botThreads.add(Thread.ofPlatform().name("load-bot-" + i).daemon().start(bot));
+        }
+
+        try {
+            awaitAll(server, gameManager, player -> !player.getName().startsWith("Player "));
+            long cpuBefore = serverCpuNanos();
+            long startedAt = System.nanoTime();
+
+            server.getGameLoop().submit(server::distributeInitialCorporations);
+            awaitAll(server, gameManager, player -> player.getCorporation() != null);
+            server.getGameLoop().submit(server::distributeInitialCards);
+
+            boolean completed = rules.gameOver().await(GAME_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            long serverCpuMillis = (serverCpuNanos() - cpuBefore) / 1_000_000;
+
+            for (Thread thread : botThreads) {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            }
+
+            long moves = bots.stream().mapToLong(BotClient::movesSent).sum();
+            return new LoadTestReport(players, generations, moves, elapsedMillis, bytesReceived.sum(),
+                    moveLatency, serverCpuMillis, completed);
+        } finally {
+            server.shutdown();
+            transport.shutdown();
+        }
+    }
+
+    private static void awaitAll(GameServerThread server, GameManager gameManager, Predicate<Player> condition)
+            throws InterruptedException {
+        while (!server.getGameLoop().call(() -> gameManager.getPlayers().stream().allMatch(condition)).join()) {
+            Thread.sleep(SETUP_POLL_MS);
+        }
+    }
+
+    private static long serverCpuNanos() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long total = 0;
+
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (info != null && SERVER_THREAD_PREFIXES.stream().anyMatch(info.getThreadName()::startsWith)) {
+                total += Math.max(0, threads.getThreadCpuTime(info.getThreadId()));
+            }
+        }
+        return total;
+    }
+}
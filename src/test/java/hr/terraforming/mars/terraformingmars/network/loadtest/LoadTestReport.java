@@ -0,0 +1,30 @@
+package hr.terraforming.mars.terraformingmars.network.loadtest;
+
+import hr.terraforming.mars.terraformingmars.network.metrics.LatencyHistogram;
+
+public record LoadTestReport(int players, int generations, long moves, long elapsedMillis, long bytesReceived,
+                             LatencyHistogram moveLatency, long serverCpuMillis, boolean completed) {
+
+    public double movesPerSecond() {
+        return elapsedMillis == 0 ? 0 : moves * 1000.0 / elapsedMillis;
+    }
+
+    public double serverCpuPercent() {
+        return elapsedMillis == 0 ? 0 : serverCpuMillis * 100.0 / elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("""
+                        players: %d, generations: %d, completed: %b
+                        moves: %d in %d ms (%.1f moves/s)
+                        broadcast bytes: %d (%d per move)
+                        move-to-state latency: p50=%d us, p99=%d us, max=%d us
+                        server cpu: %d ms (%.1f%% of one core)""",
+                players, generations, completed,
+                moves, elapsedMillis, movesPerSecond(),
+                bytesReceived, moves == 0 ? 0 : bytesReceived / moves,
+                moveLatency.percentileMicros(50), moveLatency.percentileMicros(99), moveLatency.maxMicros(),
+                serverCpuMillis, serverCpuPercent());
+    }
+}
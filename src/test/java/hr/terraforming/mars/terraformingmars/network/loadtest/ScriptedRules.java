@@ -0,0 +1,91 @@
+package hr.terraforming.mars.terraformingmars.network.loadtest;
+
+import hr.terraforming.mars.terraformingmars.enums.GamePhase;
+import hr.terraforming.mars.terraformingmars.model.GameBoard;
+import hr.terraforming.mars.terraformingmars.model.GameManager;
+import hr.terraforming.mars.terraformingmars.model.GameMove;
+import hr.terraforming.mars.terraformingmars.network.GameServerThread;
+import hr.terraforming.mars.terraformingmars.network.message.GameOverMessage;
+import hr.terraforming.mars.terraformingmars.service.MoveRulesService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+@Slf4j
+class ScriptedRules implements Consumer<GameMove> {
+
+    private static final int ACTIONS_PER_TURN = 2;
+
+    private final GameManager gameManager;
+    private final GameBoard gameBoard;
+    private final GameServerThread server;
+    private final int generations;
+    private final Set<String> researchComplete = new HashSet<>();
+    private final CountDownLatch gameOver = new CountDownLatch(1);
+    private final LongAdder processedMoves = new LongAdder();
+
+    ScriptedRules(GameManager gameManager, GameBoard gameBoard, GameServerThread server, int generations) {
+        this.gameManager = gameManager;
+        this.gameBoard = gameBoard;
+        this.server = server;
+        this.generations = generations;
+    }
+
+    @Override
+    public void accept(GameMove move) {
+        processedMoves.increment();
+
+        switch (move.actionType()) {
+            case RESEARCH_COMPLETE -> completeResearch(move.playerName());
+            case PASS_TURN, AUTO_PASS -> passTurn();
+            default -> {
+                MoveRulesService.apply(move, gameManager, gameBoard);
+                if (gameManager.getActionsTakenThisTurn() >= ACTIONS_PER_TURN) {
+                    passTurn();
+                }
+            }
+        }
+    }
+
+    private void passTurn() {
+        if (gameManager.getCurrentPhase() != GamePhase.ACTIONS || !gameManager.passTurn()) {
+            return;
+        }
+
+        gameManager.doProduction();
+
+        if (gameManager.getGeneration() >= generations) {
+            log.info("Scripted game finished after {} generations", gameManager.getGeneration());
+            server.broadcastToAll(new GameOverMessage());
+            gameOver.countDown();
+            return;
+        }
+
+        gameManager.rotateFirstPlayer();
+        gameManager.startNewGeneration();
+        gameManager.resetDraftPhase();
+        researchComplete.clear();
+        server.distributeResearchCards();
+    }
+
+    private void completeResearch(String playerName) {
+        researchComplete.add(playerName);
+
+        if (gameManager.getCurrentPhase() == GamePhase.RESEARCH
+                && researchComplete.size() >= gameManager.getPlayers().size()) {
+            gameManager.beginActionPhase();
+        }
+    }
+
+    CountDownLatch gameOver() {
+        return gameOver;
+    }
+
+    long processedMoves() {
+        return processedMoves.sum();
+    }
+}
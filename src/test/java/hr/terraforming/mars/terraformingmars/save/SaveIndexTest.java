@@ -0,0 +1,98 @@
+package hr.terraforming.mars.terraformingmars.save;
+
+import hr.terraforming.mars.terraformingmars.enums.GamePhase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SaveIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private static SaveHeader header(String slot, int generation) {
+        return new SaveHeader(slot, generation, GamePhase.ACTIONS, List.of("Ann", "Bob"),
+                List.of("Credicor", "Thorgate"), -12, 5, 3,
+                LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_000), 32_768L + generation);
+    }
+
+    private static List<SaveHeader> sorted(List<SaveHeader> headers) {
+        return headers.stream().sorted(Comparator.comparing(SaveHeader::slot)).toList();
+    }
+
+    @Test
+    void headersRoundTripThroughTheMapping() throws IOException {
+        Path path = directory.resolve("index.dat");
+        try (SaveIndex index = SaveIndex.open(path)) {
+            index.put(header("a", 1));
+            index.put(header("b", 2));
+        }
+
+        try (SaveIndex index = SaveIndex.open(path)) {
+            assertEquals(List.of(header("a", 1), header("b", 2)), sorted(index.headers()));
+        }
+    }
+
+    @Test
+    void putReplacesTheEntryForAnExistingSlot() throws IOException {
+        try (SaveIndex index = SaveIndex.open(directory.resolve("index.dat"))) {
+            index.put(header("a", 1));
+            index.put(header("a", 7));
+
+            assertEquals(List.of(header("a", 7)), index.headers());
+        }
+    }
+
+    @Test
+    void growsPastTheInitialCapacity() throws IOException {
+        Path path = directory.resolve("index.dat");
+        try (SaveIndex index = SaveIndex.open(path)) {
+            for (int i = 0; i < 150; i++) {
+                index.put(header(String.format("slot-%03d", i), i));
+            }
+        }
+
+        try (SaveIndex index = SaveIndex.open(path)) {
+            List<SaveHeader> headers = sorted(index.headers());
+            assertEquals(150, headers.size());
+            assertEquals(header("slot-149", 149), headers.getLast());
+        }
+    }
+
+    @Test
+    void removeKeepsTheRemainingEntries() throws IOException {
+        try (SaveIndex index = SaveIndex.open(directory.resolve("index.dat"))) {
+            index.put(header("a", 1));
+            index.put(header("b", 2));
+            index.put(header("c", 3));
+
+            index.remove("a");
+            index.remove("missing");
+
+            assertEquals(List.of(header("b", 2), header("c", 3)), sorted(index.headers()));
+        }
+    }
+
+    @Test
+    void unreadableIndexStartsEmpty() throws IOException {
+        Path path = directory.resolve("index.dat");
+        Files.write(path, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17});
+
+        try (SaveIndex index = SaveIndex.open(path)) {
+            assertTrue(index.headers().isEmpty());
+            index.put(header("a", 1));
+        }
+
+        try (SaveIndex index = SaveIndex.open(path)) {
+            assertEquals(List.of(header("a", 1)), index.headers());
+        }
+    }
+}